@@ -0,0 +1,29 @@
+package com.frandm.studytracker.backend.controller;
+
+import com.frandm.studytracker.backend.service.TableVersions;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
+import com.frandm.studytracker.backend.service.TagService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/catalog")
+@CrossOrigin
+public class CatalogController {
+
+    private final TagService tagService;
+    private final TableVersions tableVersions;
+
+    public CatalogController(TagService tagService, TableVersions tableVersions) {
+        this.tagService = tagService;
+        this.tableVersions = tableVersions;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> catalog(WebRequest request) {
+        return ConditionalResponses.ok(request, tableVersions.etag(Table.TAGS, Table.TASKS), tagService::getCatalog);
+    }
+}
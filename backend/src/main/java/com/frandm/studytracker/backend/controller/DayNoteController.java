@@ -2,9 +2,12 @@ package com.frandm.studytracker.backend.controller;
 
 import com.frandm.studytracker.backend.model.DayNote;
 import com.frandm.studytracker.backend.service.DayNoteService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 
@@ -20,37 +23,76 @@ public class DayNoteController {
     }
 
     @GetMapping
-    public List<DayNote> list() {
-        return dayNoteService.getAll();
+    public List<DayNote> list(
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end) {
+        boolean hasStart = start != null && !start.isEmpty();
+        boolean hasEnd = end != null && !end.isEmpty();
+        if (!hasStart && !hasEnd) {
+            return dayNoteService.getAll();
+        }
+        if (!hasStart || !hasEnd) {
+            throw badRequest("start and end must be given together");
+        }
+        try {
+            return dayNoteService.getByDateRange(LocalDate.parse(start), LocalDate.parse(end));
+        } catch (DateTimeParseException e) {
+            throw badRequest("Invalid date range, expected yyyy-MM-dd: " + start + " - " + end);
+        }
     }
 
-    @GetMapping("/{id}")
+    @GetMapping("/{id:\\d+}")
     public DayNote get(@PathVariable Long id) {
         return dayNoteService.getById(id);
     }
 
+    @GetMapping("/{date:\\d{4}-\\d{2}-\\d{2}}")
+    public DayNote getByDate(@PathVariable String date) {
+        return dayNoteService.getOrEmpty(parseDate(date));
+    }
+
     @PostMapping
     public DayNote create(@RequestBody Map<String, String> body) {
-        LocalDate date = LocalDate.parse(body.get("date"));
+        LocalDate date = parseDate(body.get("date"));
         String content = body.getOrDefault("content", "");
         return dayNoteService.create(date, content);
     }
 
-    @PutMapping("/{id}")
+    @PutMapping("/{id:\\d+}")
     public DayNote update(@PathVariable Long id, @RequestBody Map<String, String> body) {
-        LocalDate date = body.get("date") != null ? LocalDate.parse(body.get("date")) : null;
+        LocalDate date = body.get("date") != null ? parseDate(body.get("date")) : null;
         String content = body.get("content");
         return dayNoteService.fullUpdate(id, date, content);
     }
 
-    @PatchMapping("/{id}")
+    @PutMapping("/by-date/{date}")
+    public DayNote upsertByDate(@PathVariable String date, @RequestBody Map<String, String> body) {
+        return dayNoteService.upsertByDate(parseDate(date), body.get("content"));
+    }
+
+    @PatchMapping("/{id:\\d+}")
     public DayNote patch(@PathVariable Long id, @RequestBody Map<String, String> body) {
         return dayNoteService.partialUpdate(id, body.get("content"));
     }
 
-    @DeleteMapping("/{id}")
+    @DeleteMapping("/{id:\\d+}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         dayNoteService.delete(id);
         return ResponseEntity.ok().build();
     }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            throw badRequest("date is required");
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw badRequest("Invalid date, expected yyyy-MM-dd: " + value);
+        }
+    }
+
+    private static ResponseStatusException badRequest(String message) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    }
 }
@@ -2,9 +2,12 @@ package com.frandm.studytracker.backend.controller;
 
 import com.frandm.studytracker.backend.model.Deadline;
 import com.frandm.studytracker.backend.service.DeadlineService;
+import com.frandm.studytracker.backend.service.TableVersions;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
 import com.frandm.studytracker.backend.util.DateTimeUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -15,29 +18,34 @@ import java.util.Map;
 public class DeadlineController {
 
     private final DeadlineService deadlineService;
+    private final TableVersions tableVersions;
 
-    public DeadlineController(DeadlineService deadlineService) {
+    public DeadlineController(DeadlineService deadlineService, TableVersions tableVersions) {
         this.deadlineService = deadlineService;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping
-    public List<Deadline> list(
+    public ResponseEntity<List<Deadline>> list(
             @RequestParam(required = false) String start,
-            @RequestParam(required = false) String end) {
+            @RequestParam(required = false) String end,
+            WebRequest request) {
 
-        if (start == null || end == null || start.isEmpty() || end.isEmpty()) {
-            return deadlineService.getAll();
-        }
+        return ConditionalResponses.ok(request, etag(), () -> {
+            if (start == null || end == null || start.isEmpty() || end.isEmpty()) {
+                return deadlineService.getAll();
+            }
 
-        LocalDateTime startDt = DateTimeUtils.parseFlexibleTimestamp(start);
-        LocalDateTime endDt = DateTimeUtils.parseFlexibleTimestamp(end);
+            LocalDateTime startDt = DateTimeUtils.parseFlexibleTimestamp(start);
+            LocalDateTime endDt = DateTimeUtils.parseFlexibleTimestamp(end);
 
-        return deadlineService.getByDateRange(startDt, endDt);
+            return deadlineService.getByDateRange(startDt, endDt);
+        });
     }
 
     @GetMapping("/{id}")
-    public Deadline get(@PathVariable Long id) {
-        return deadlineService.getById(id);
+    public ResponseEntity<Deadline> get(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ok(request, etag(), () -> deadlineService.getById(id));
     }
 
     @PostMapping
@@ -92,4 +100,8 @@ public class DeadlineController {
         deadlineService.delete(id);
         return ResponseEntity.ok().build();
     }
+
+    private String etag() {
+        return tableVersions.etag(Table.DEADLINES, Table.TASKS, Table.TAGS);
+    }
 }
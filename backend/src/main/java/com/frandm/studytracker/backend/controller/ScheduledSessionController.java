@@ -2,9 +2,12 @@ package com.frandm.studytracker.backend.controller;
 
 import com.frandm.studytracker.backend.model.ScheduledSession;
 import com.frandm.studytracker.backend.service.ScheduledSessionService;
+import com.frandm.studytracker.backend.service.TableVersions;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
 import com.frandm.studytracker.backend.util.DateTimeUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -15,29 +18,35 @@ import java.util.Map;
 public class ScheduledSessionController {
 
     private final ScheduledSessionService scheduledSessionService;
+    private final TableVersions tableVersions;
 
-    public ScheduledSessionController(ScheduledSessionService scheduledSessionService) {
+    public ScheduledSessionController(ScheduledSessionService scheduledSessionService,
+                                      TableVersions tableVersions) {
         this.scheduledSessionService = scheduledSessionService;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping
-    public List<ScheduledSession> list(
+    public ResponseEntity<List<ScheduledSession>> list(
             @RequestParam(required = false) String start,
-            @RequestParam(required = false) String end) {
+            @RequestParam(required = false) String end,
+            WebRequest request) {
 
-        if (start == null || end == null || start.isEmpty() || end.isEmpty()) {
-            return scheduledSessionService.getAll();
-        }
+        return ConditionalResponses.ok(request, etag(), () -> {
+            if (start == null || end == null || start.isEmpty() || end.isEmpty()) {
+                return scheduledSessionService.getAll();
+            }
 
-        return scheduledSessionService.getByDateRange(
-                DateTimeUtils.parseFlexibleTimestamp(start),
-                DateTimeUtils.parseFlexibleTimestamp(end)
-        );
+            return scheduledSessionService.getByDateRange(
+                    DateTimeUtils.parseFlexibleTimestamp(start),
+                    DateTimeUtils.parseFlexibleTimestamp(end)
+            );
+        });
     }
 
     @GetMapping("/{id}")
-    public ScheduledSession get(@PathVariable Long id) {
-        return scheduledSessionService.getById(id);
+    public ResponseEntity<ScheduledSession> get(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ok(request, etag(), () -> scheduledSessionService.getById(id));
     }
 
     @PostMapping
@@ -78,4 +87,8 @@ public class ScheduledSessionController {
         scheduledSessionService.delete(id);
         return ResponseEntity.ok().build();
     }
+
+    private String etag() {
+        return tableVersions.etag(Table.SCHEDULED_SESSIONS, Table.TASKS, Table.TAGS);
+    }
 }
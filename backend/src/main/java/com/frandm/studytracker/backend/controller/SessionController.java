@@ -2,11 +2,17 @@ package com.frandm.studytracker.backend.controller;
 
 import com.frandm.studytracker.backend.model.Session;
 import com.frandm.studytracker.backend.service.SessionService;
+import com.frandm.studytracker.backend.service.TableVersions;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
 import com.frandm.studytracker.backend.util.DateTimeUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 
@@ -15,21 +21,33 @@ import java.util.Map;
 @CrossOrigin
 public class SessionController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final SessionService sessionService;
+    private final TableVersions tableVersions;
 
-    public SessionController(SessionService sessionService) {
+    public SessionController(SessionService sessionService, TableVersions tableVersions) {
         this.sessionService = sessionService;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping
-    public List<Session> list(
+    public ResponseEntity<List<Session>> list(
             @RequestParam(required = false) String tag,
             @RequestParam(required = false) String task,
             @RequestParam(required = false) String start,
             @RequestParam(required = false) String end,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "50") int size) {
+            @RequestParam(defaultValue = "50") int size,
+            WebRequest request) {
+        return ConditionalResponses.ok(request, etag(),
+                () -> find(tag, task, start, end, after, limit, page, size));
+    }
 
+    private List<Session> find(String tag, String task, String start, String end,
+                               String after, Integer limit, int page, int size) {
         if (start != null && end != null) {
             return sessionService.getByDateRange(
                     DateTimeUtils.parseFlexibleTimestamp(start),
@@ -37,22 +55,57 @@ public class SessionController {
             );
         }
 
-        return sessionService.getFiltered(tag, task, page, size).getContent();
+        if (after != null || limit != null) {
+            int sliceSize = Math.min(requirePositive(limit != null ? limit : size, "limit"), MAX_PAGE_SIZE);
+            if (after == null || after.isBlank()) {
+                return sessionService.getSlice(tag, task, null, null, sliceSize).getContent();
+            }
+            int separator = after.lastIndexOf(',');
+            if (separator < 0) {
+                throw badRequest("Invalid cursor, expected <startDate,id>: " + after);
+            }
+            LocalDateTime afterStart;
+            long afterId;
+            try {
+                afterStart = DateTimeUtils.parseFlexibleTimestamp(after.substring(0, separator).trim());
+                afterId = Long.parseLong(after.substring(separator + 1).trim());
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw badRequest("Invalid cursor, expected <startDate,id>: " + after);
+            }
+            return sessionService.getSlice(tag, task, afterStart, afterId, sliceSize).getContent();
+        }
+
+        if (page < 0) {
+            throw badRequest("page must be >= 0: " + page);
+        }
+        return sessionService.getFiltered(tag, task, page, requirePositive(size, "size")).getContent();
+    }
+
+    private static int requirePositive(int requested, String name) {
+        if (requested < 1) {
+            throw badRequest(name + " must be >= 1: " + requested);
+        }
+        return requested;
+    }
+
+    private static ResponseStatusException badRequest(String message) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
     }
 
     @GetMapping("/range")
-    public List<Session> getByRange(
+    public ResponseEntity<List<Session>> getByRange(
             @RequestParam String start,
-            @RequestParam String end) {
-        return sessionService.getByDateRange(
+            @RequestParam String end,
+            WebRequest request) {
+        return ConditionalResponses.ok(request, etag(), () -> sessionService.getByDateRange(
                 DateTimeUtils.parseFlexibleTimestamp(start),
                 DateTimeUtils.parseFlexibleTimestamp(end)
-        );
+        ));
     }
 
     @GetMapping("/{id}")
-    public Session get(@PathVariable Long id) {
-        return sessionService.getById(id);
+    public ResponseEntity<Session> get(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ok(request, etag(), () -> sessionService.getById(id));
     }
 
     @PostMapping
@@ -70,6 +123,24 @@ public class SessionController {
         );
     }
 
+    @PostMapping("/batch")
+    public Map<String, Integer> createBatch(@RequestBody List<Map<String, Object>> body) {
+        List<SessionService.NewSession> sessions = body.stream()
+                .map(item -> new SessionService.NewSession(
+                        (String) item.get("tagName"),
+                        (String) item.get("tagColor"),
+                        (String) item.get("taskName"),
+                        (String) item.get("title"),
+                        (String) item.get("description"),
+                        (Integer) item.get("totalMinutes"),
+                        DateTimeUtils.parseApiTimestamp((String) item.get("startDate")),
+                        DateTimeUtils.parseApiTimestamp((String) item.get("endDate")),
+                        (Integer) item.get("rating")
+                ))
+                .toList();
+        return Map.of("imported", sessionService.importBatch(sessions));
+    }
+
     @PutMapping("/{id}")
     public Session update(@PathVariable Long id, @RequestBody Map<String, Object> body) {
         return sessionService.fullUpdate(
@@ -104,4 +175,8 @@ public class SessionController {
         sessionService.delete(id);
         return ResponseEntity.ok().build();
     }
+
+    private String etag() {
+        return tableVersions.etag(Table.SESSIONS, Table.TASKS, Table.TAGS);
+    }
 }
@@ -1,9 +1,17 @@
 package com.frandm.studytracker.backend.controller;
 
 import com.frandm.studytracker.backend.service.StatsService;
+import com.frandm.studytracker.backend.service.TableVersions;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.time.LocalDate;
-import java.util.List;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
 
 @RestController
@@ -12,9 +20,11 @@ import java.util.Map;
 public class StatsController {
 
     private final StatsService statsService;
+    private final TableVersions tableVersions;
 
-    public StatsController(StatsService statsService) {
+    public StatsController(StatsService statsService, TableVersions tableVersions) {
         this.statsService = statsService;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping("/heatmap")
@@ -27,9 +37,37 @@ public class StatsController {
         return statsService.getSummaryByTag(tag);
     }
 
+    @GetMapping("/tag-totals")
+    public ResponseEntity<Map<String, Map<String, Object>>> getTagTotals(
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            WebRequest request) {
+        LocalDate startDate = parseDate(start, "start");
+        LocalDate endDate = parseDate(end, "end");
+        return ConditionalResponses.ok(request, tableVersions.etag(Table.TAGS, Table.TASKS, Table.SESSIONS),
+                () -> statsService.getTagTotals(startDate, endDate));
+    }
+
+    private static LocalDate parseDate(String value, String name) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw badRequest("Invalid " + name + " date, expected yyyy-MM-dd: " + value);
+        }
+    }
+
+    private static ResponseStatusException badRequest(String message) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    }
+
     @GetMapping("/sessions/all")
-    public List<Map<String, Object>> getAllSessionsForStats() {
-        return statsService.getAllSessionsForStats();
+    public ResponseEntity<StreamingResponseBody> getAllSessionsForStats() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(statsService::writeAllSessionsForStats);
     }
 
     @GetMapping("/weekly")
@@ -0,0 +1,28 @@
+package com.frandm.studytracker.backend.controller;
+
+import com.frandm.studytracker.backend.service.SyncService;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/sync")
+@CrossOrigin
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping
+    public Map<String, Object> changes(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "0") long prunedThrough,
+            @RequestParam(required = false) List<String> tables,
+            @RequestParam(defaultValue = "1000") int limit) {
+        syncService.pruneTombstonesIfDue();
+        return syncService.changesSince(since, prunedThrough, tables, limit);
+    }
+}
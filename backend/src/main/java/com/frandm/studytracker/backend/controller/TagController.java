@@ -1,9 +1,12 @@
 package com.frandm.studytracker.backend.controller;
 
 import com.frandm.studytracker.backend.model.Tag;
+import com.frandm.studytracker.backend.service.TableVersions;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
 import com.frandm.studytracker.backend.service.TagService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 import java.util.Map;
 
@@ -13,29 +16,31 @@ import java.util.Map;
 public class TagController {
 
     private final TagService tagService;
+    private final TableVersions tableVersions;
 
-    public TagController(TagService tagService) {
+    public TagController(TagService tagService, TableVersions tableVersions) {
         this.tagService = tagService;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping
-    public List<Tag> list() {
-        return tagService.getActive();
+    public ResponseEntity<List<Tag>> list(WebRequest request) {
+        return ConditionalResponses.ok(request, tableVersions.etag(Table.TAGS), tagService::getActive);
     }
 
     @GetMapping("/all")
-    public List<Tag> listAll() {
-        return tagService.getAll();
+    public ResponseEntity<List<Tag>> listAll(WebRequest request) {
+        return ConditionalResponses.ok(request, tableVersions.etag(Table.TAGS), tagService::getAll);
     }
 
     @GetMapping("/favorites")
-    public List<Tag> listFavorites() {
-        return tagService.getFavorites();
+    public ResponseEntity<List<Tag>> listFavorites(WebRequest request) {
+        return ConditionalResponses.ok(request, tableVersions.etag(Table.TAGS), tagService::getFavorites);
     }
 
     @GetMapping("/{id:\\d+}")
-    public Tag get(@PathVariable Long id) {
-        return tagService.getById(id);
+    public ResponseEntity<Tag> get(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ok(request, tableVersions.etag(Table.TAGS), () -> tagService.getById(id));
     }
 
     @PostMapping
@@ -1,9 +1,12 @@
 package com.frandm.studytracker.backend.controller;
 
 import com.frandm.studytracker.backend.model.Task;
+import com.frandm.studytracker.backend.service.TableVersions;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
 import com.frandm.studytracker.backend.service.TaskService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 import java.util.Map;
 
@@ -13,22 +16,26 @@ import java.util.Map;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TableVersions tableVersions;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TableVersions tableVersions) {
         this.taskService = taskService;
+        this.tableVersions = tableVersions;
     }
 
     @GetMapping
-    public List<Task> list(@RequestParam(required = false) String tag) {
-        if (tag != null && !tag.isEmpty()) {
-            return taskService.getByTag(tag);
-        }
-        return taskService.getAll();
+    public ResponseEntity<List<Task>> list(@RequestParam(required = false) String tag, WebRequest request) {
+        return ConditionalResponses.ok(request, etag(), () -> {
+            if (tag != null && !tag.isEmpty()) {
+                return taskService.getByTag(tag);
+            }
+            return taskService.getAll();
+        });
     }
 
     @GetMapping("/{id}")
-    public Task get(@PathVariable Long id) {
-        return taskService.getById(id);
+    public ResponseEntity<Task> get(@PathVariable Long id, WebRequest request) {
+        return ConditionalResponses.ok(request, etag(), () -> taskService.getById(id));
     }
 
     @PostMapping
@@ -65,4 +72,8 @@ public class TaskController {
         taskService.delete(id);
         return ResponseEntity.ok().build();
     }
+
+    private String etag() {
+        return tableVersions.etag(Table.TASKS, Table.TAGS);
+    }
 }
@@ -1,5 +1,6 @@
 package com.frandm.studytracker.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 
@@ -11,6 +12,10 @@ public class DayNote {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @JsonIgnore
+    @Column(name = "row_version", insertable = false, updatable = false)
+    private Long rowVersion;
+
     @Column(nullable = false, unique = true)
     private LocalDate date;
 
@@ -18,6 +23,7 @@ public class DayNote {
     private String content = "";
 
     public Long getId() { return id; }
+    public Long getRowVersion() { return rowVersion; }
     public LocalDate getDate() { return date; }
     public String getContent() { return content; }
 
@@ -1,5 +1,6 @@
 package com.frandm.studytracker.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -11,7 +12,11 @@ public class Deadline {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @JsonIgnore
+    @Column(name = "row_version", insertable = false, updatable = false)
+    private Long rowVersion;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
@@ -30,6 +35,7 @@ public class Deadline {
     private Boolean isCompleted = false;
 
     public Long getId() { return id; }
+    public Long getRowVersion() { return rowVersion; }
     public void setId(Long id) { this.id = id; }
     public Task getTask() { return task; }
     public void setTask(Task task) { this.task = task; }
@@ -0,0 +1,39 @@
+package com.frandm.studytracker.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyKey {
+
+    @Id
+    @Column(name = "idempotency_key", length = 64)
+    private String key;
+
+    @Column(name = "request_method", nullable = false, length = 8)
+    private String requestMethod;
+
+    @Column(name = "request_path", nullable = false, length = 512)
+    private String requestPath;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_content_type", length = 128)
+    private String responseContentType;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public String getKey() { return key; }
+    public String getRequestMethod() { return requestMethod; }
+    public String getRequestPath() { return requestPath; }
+    public Integer getResponseStatus() { return responseStatus; }
+    public String getResponseContentType() { return responseContentType; }
+    public String getResponseBody() { return responseBody; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
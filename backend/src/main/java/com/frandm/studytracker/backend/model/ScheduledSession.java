@@ -1,5 +1,6 @@
 package com.frandm.studytracker.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -11,7 +12,11 @@ public class ScheduledSession {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @JsonIgnore
+    @Column(name = "row_version", insertable = false, updatable = false)
+    private Long rowVersion;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
@@ -25,6 +30,7 @@ public class ScheduledSession {
     private LocalDateTime endDate;
 
     public Long getId() { return id; }
+    public Long getRowVersion() { return rowVersion; }
     public Task getTask() { return task; }
     public String getTitle() { return title; }
     public LocalDateTime getStartDate() { return startDate; }
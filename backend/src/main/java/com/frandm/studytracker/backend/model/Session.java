@@ -1,5 +1,6 @@
 package com.frandm.studytracker.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -8,10 +9,15 @@ import java.time.LocalDateTime;
 public class Session {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sessions_seq")
+    @SequenceGenerator(name = "sessions_seq", sequenceName = "sessions_id_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @JsonIgnore
+    @Column(name = "row_version", insertable = false, updatable = false)
+    private Long rowVersion;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
@@ -30,6 +36,7 @@ public class Session {
     private Integer rating;
 
     public Long getId() { return id; }
+    public Long getRowVersion() { return rowVersion; }
     public Task getTask() { return task; }
     public String getTitle() { return title; }
     public String getDescription() { return description; }
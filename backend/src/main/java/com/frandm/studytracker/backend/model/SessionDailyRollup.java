@@ -0,0 +1,79 @@
+package com.frandm.studytracker.backend.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "session_daily_rollup")
+@IdClass(SessionDailyRollup.Key.class)
+public class SessionDailyRollup {
+
+    @Id
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Id
+    @Column(name = "tag_id", nullable = false)
+    private Long tagId;
+
+    @Id
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "total_minutes", nullable = false)
+    private Long totalMinutes = 0L;
+
+    @Column(name = "session_count", nullable = false)
+    private Integer sessionCount = 0;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum = 0L;
+
+    public LocalDate getDate() { return date; }
+    public Long getTagId() { return tagId; }
+    public Long getTaskId() { return taskId; }
+    public Long getTotalMinutes() { return totalMinutes; }
+    public Integer getSessionCount() { return sessionCount; }
+    public Long getRatingSum() { return ratingSum; }
+
+    public void setDate(LocalDate date) { this.date = date; }
+    public void setTagId(Long tagId) { this.tagId = tagId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+    public void setTotalMinutes(Long totalMinutes) { this.totalMinutes = totalMinutes; }
+    public void setSessionCount(Integer sessionCount) { this.sessionCount = sessionCount; }
+    public void setRatingSum(Long ratingSum) { this.ratingSum = ratingSum; }
+
+    public static class Key implements Serializable {
+        private LocalDate date;
+        private Long tagId;
+        private Long taskId;
+
+        public Key() {}
+
+        public Key(LocalDate date, Long tagId, Long taskId) {
+            this.date = date;
+            this.tagId = tagId;
+            this.taskId = taskId;
+        }
+
+        public LocalDate getDate() { return date; }
+        public Long getTagId() { return tagId; }
+        public Long getTaskId() { return taskId; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(date, other.date)
+                    && Objects.equals(tagId, other.tagId)
+                    && Objects.equals(taskId, other.taskId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(date, tagId, taskId);
+        }
+    }
+}
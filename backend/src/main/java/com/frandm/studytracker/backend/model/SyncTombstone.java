@@ -0,0 +1,27 @@
+package com.frandm.studytracker.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "sync_tombstones")
+public class SyncTombstone {
+
+    @Id
+    @Column(name = "row_version")
+    private Long rowVersion;
+
+    @Column(name = "table_name", nullable = false, length = 64)
+    private String tableName;
+
+    @Column(name = "row_id", nullable = false)
+    private Long rowId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public Long getRowVersion() { return rowVersion; }
+    public String getTableName() { return tableName; }
+    public Long getRowId() { return rowId; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+}
@@ -1,9 +1,12 @@
 package com.frandm.studytracker.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.util.List;
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "tags")
 public class Tag {
 
@@ -11,6 +14,10 @@ public class Tag {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @JsonIgnore
+    @Column(name = "row_version", insertable = false, updatable = false)
+    private Long rowVersion;
+
     @Column(nullable = false, unique = true)
     private String name;
 
@@ -26,6 +33,7 @@ public class Tag {
     private List<Task> tasks;
 
     public Long getId() { return id; }
+    public Long getRowVersion() { return rowVersion; }
     public String getName() { return name; }
     public String getColor() { return color; }
     public boolean isArchived() { return isArchived; }
@@ -1,12 +1,25 @@
 package com.frandm.studytracker.backend.repository;
 
 import com.frandm.studytracker.backend.model.DayNote;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DayNoteRepository extends JpaRepository<DayNote, Long> {
     Optional<DayNote> findByDate(LocalDate date);
-}
\ No newline at end of file
+    List<DayNote> findByDateBetweenOrderByDateAsc(LocalDate start, LocalDate end);
+    List<DayNote> findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(Long since, Long below, Limit limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO day_note (date, content) VALUES (:date, :content) " +
+            "ON CONFLICT (date) DO UPDATE SET content = EXCLUDED.content",
+            nativeQuery = true)
+    void upsertContent(@Param("date") LocalDate date, @Param("content") String content);
+}
@@ -1,6 +1,8 @@
 package com.frandm.studytracker.backend.repository;
 
 import com.frandm.studytracker.backend.model.Deadline;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,9 +13,17 @@ import java.util.List;
 @Repository
 public interface DeadlineRepository extends JpaRepository<Deadline, Long> {
 
-    @Query("SELECT d FROM Deadline d WHERE d.dueDate BETWEEN :start AND :end ORDER BY d.dueDate ASC")
+    @Override
+    @EntityGraph(attributePaths = {"task", "task.tag"})
+    List<Deadline> findAll();
+
+    @Query("SELECT d FROM Deadline d JOIN FETCH d.task t JOIN FETCH t.tag " +
+            "WHERE d.dueDate BETWEEN :start AND :end ORDER BY d.dueDate ASC")
     List<Deadline> findByDateRange(
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
-}
\ No newline at end of file
+
+    @EntityGraph(attributePaths = {"task", "task.tag"})
+    List<Deadline> findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(Long since, Long below, Limit limit);
+}
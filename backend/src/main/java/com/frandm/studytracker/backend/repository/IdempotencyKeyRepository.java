@@ -0,0 +1,53 @@
+package com.frandm.studytracker.backend.repository;
+
+import com.frandm.studytracker.backend.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_method, request_path, created_at) " +
+            "VALUES (:key, :method, :path, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING",
+            nativeQuery = true)
+    int claim(@Param("key") String key, @Param("method") String method, @Param("path") String path);
+
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET request_method = :method, request_path = :path, " +
+            "created_at = CURRENT_TIMESTAMP " +
+            "WHERE idempotency_key = :key AND response_status IS NULL AND created_at < :cutoff",
+            nativeQuery = true)
+    int reclaimAbandoned(
+            @Param("key") String key,
+            @Param("method") String method,
+            @Param("path") String path,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET response_status = :status, " +
+            "response_content_type = :contentType, response_body = :body " +
+            "WHERE idempotency_key = :key AND response_status IS NULL",
+            nativeQuery = true)
+    void complete(
+            @Param("key") String key,
+            @Param("status") int status,
+            @Param("contentType") String contentType,
+            @Param("body") String body
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE idempotency_key = :key AND response_status IS NULL",
+            nativeQuery = true)
+    void release(@Param("key") String key);
+
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE created_at < :cutoff", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
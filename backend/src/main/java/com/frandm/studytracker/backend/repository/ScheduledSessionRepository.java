@@ -1,6 +1,8 @@
 package com.frandm.studytracker.backend.repository;
 
 import com.frandm.studytracker.backend.model.ScheduledSession;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,10 +13,17 @@ import java.util.List;
 @Repository
 public interface ScheduledSessionRepository extends JpaRepository<ScheduledSession, Long> {
 
-    @Query("SELECT s FROM ScheduledSession s WHERE " +
+    @Override
+    @EntityGraph(attributePaths = {"task", "task.tag"})
+    List<ScheduledSession> findAll();
+
+    @Query("SELECT s FROM ScheduledSession s JOIN FETCH s.task t JOIN FETCH t.tag WHERE " +
             "s.startDate BETWEEN :start AND :end")
     List<ScheduledSession> findByDateRange(
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
+
+    @EntityGraph(attributePaths = {"task", "task.tag"})
+    List<ScheduledSession> findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(Long since, Long below, Limit limit);
 }
@@ -0,0 +1,93 @@
+package com.frandm.studytracker.backend.repository;
+
+import com.frandm.studytracker.backend.model.SessionDailyRollup;
+import com.frandm.studytracker.backend.repository.projection.DailyMinutesView;
+import com.frandm.studytracker.backend.repository.projection.TagTaskMinutesView;
+import com.frandm.studytracker.backend.repository.projection.TaskMinutesView;
+import com.frandm.studytracker.backend.repository.projection.WeeklyMinutesView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SessionDailyRollupRepository extends JpaRepository<SessionDailyRollup, SessionDailyRollup.Key> {
+
+    @Modifying
+    @Query(value = "INSERT INTO session_daily_rollup " +
+            "(date, tag_id, task_id, total_minutes, session_count, rating_sum) " +
+            "VALUES (:date, :tagId, :taskId, :minutes, :sessions, :ratingSum) " +
+            "ON CONFLICT (date, tag_id, task_id) DO UPDATE SET " +
+            "total_minutes = session_daily_rollup.total_minutes + EXCLUDED.total_minutes, " +
+            "session_count = session_daily_rollup.session_count + EXCLUDED.session_count, " +
+            "rating_sum = session_daily_rollup.rating_sum + EXCLUDED.rating_sum",
+            nativeQuery = true)
+    void applyDelta(
+            @Param("date") LocalDate date,
+            @Param("tagId") Long tagId,
+            @Param("taskId") Long taskId,
+            @Param("minutes") long minutes,
+            @Param("sessions") int sessions,
+            @Param("ratingSum") long ratingSum
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM session_daily_rollup " +
+            "WHERE date = :date AND tag_id = :tagId AND task_id = :taskId AND session_count <= 0",
+            nativeQuery = true)
+    void deleteIfEmpty(
+            @Param("date") LocalDate date,
+            @Param("tagId") Long tagId,
+            @Param("taskId") Long taskId
+    );
+
+    @Modifying
+    @Query(value = "UPDATE session_daily_rollup SET tag_id = :tagId WHERE task_id = :taskId",
+            nativeQuery = true)
+    void reassignTag(@Param("taskId") Long taskId, @Param("tagId") Long tagId);
+
+    @Query("SELECT r.date AS sessionDate, SUM(r.totalMinutes) AS minutes " +
+            "FROM SessionDailyRollup r WHERE r.date BETWEEN :start AND :end " +
+            "GROUP BY r.date ORDER BY r.date")
+    List<DailyMinutesView> sumMinutesByDay(
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    @Query(value = "SELECT to_char(date_trunc('week', date), 'YYYY-MM-DD') AS week, " +
+            "SUM(total_minutes) AS minutes " +
+            "FROM session_daily_rollup WHERE date BETWEEN :start AND :end " +
+            "GROUP BY date_trunc('week', date) " +
+            "ORDER BY date_trunc('week', date)",
+            nativeQuery = true)
+    List<WeeklyMinutesView> sumMinutesByWeek(
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    @Query("SELECT t.name AS task, SUM(r.totalMinutes) AS minutes " +
+            "FROM SessionDailyRollup r JOIN Task t ON t.id = r.taskId " +
+            "WHERE t.tag.name = :tag " +
+            "GROUP BY t.id, t.name " +
+            "ORDER BY MAX(r.date) DESC")
+    List<TaskMinutesView> sumMinutesByTask(@Param("tag") String tag);
+
+    @Query("SELECT g.name AS tag, t.name AS task, SUM(r.totalMinutes) AS minutes " +
+            "FROM SessionDailyRollup r JOIN Task t ON t.id = r.taskId JOIN Tag g ON g.id = r.tagId " +
+            "GROUP BY g.id, g.name, t.id, t.name " +
+            "ORDER BY g.name, MAX(r.date) DESC")
+    List<TagTaskMinutesView> sumMinutesByTagAndTask();
+
+    @Query("SELECT g.name AS tag, t.name AS task, SUM(r.totalMinutes) AS minutes " +
+            "FROM SessionDailyRollup r JOIN Task t ON t.id = r.taskId JOIN Tag g ON g.id = r.tagId " +
+            "WHERE r.date BETWEEN :start AND :end " +
+            "GROUP BY g.id, g.name, t.id, t.name " +
+            "ORDER BY g.name, MAX(r.date) DESC")
+    List<TagTaskMinutesView> sumMinutesByTagAndTask(
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+}
@@ -1,18 +1,27 @@
 package com.frandm.studytracker.backend.repository;
 
 import com.frandm.studytracker.backend.model.Session;
+import com.frandm.studytracker.backend.repository.projection.SessionStatsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface SessionRepository extends JpaRepository<Session, Long> {
 
+    @EntityGraph(attributePaths = {"task", "task.tag"})
     @Query("SELECT s FROM Session s WHERE " +
             "(:tag IS NULL OR s.task.tag.name = :tag) AND " +
             "(:task IS NULL OR s.task.name = :task) " +
@@ -23,11 +32,46 @@ public interface SessionRepository extends JpaRepository<Session, Long> {
             Pageable pageable
     );
 
-    List<Session> findByTask_Tag_NameOrderByStartDateDesc(String tagName);
+    @EntityGraph(attributePaths = {"task", "task.tag"})
+    @Query("SELECT s FROM Session s WHERE " +
+            "(:tag IS NULL OR s.task.tag.name = :tag) AND " +
+            "(:task IS NULL OR s.task.name = :task) " +
+            "ORDER BY s.startDate DESC, s.id DESC")
+    Slice<Session> findFirstSlice(
+            @Param("tag") String tag,
+            @Param("task") String task,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = {"task", "task.tag"})
+    @Query("SELECT s FROM Session s WHERE " +
+            "(:tag IS NULL OR s.task.tag.name = :tag) AND " +
+            "(:task IS NULL OR s.task.name = :task) AND " +
+            "s.startDate <= :afterStart AND " +
+            "(s.startDate < :afterStart OR s.id < :afterId) " +
+            "ORDER BY s.startDate DESC, s.id DESC")
+    Slice<Session> findSliceAfter(
+            @Param("tag") String tag,
+            @Param("task") String task,
+            @Param("afterStart") LocalDateTime afterStart,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 
-    @Query("SELECT s FROM Session s WHERE s.startDate BETWEEN :start AND :end")
+    @Query("SELECT s FROM Session s JOIN FETCH s.task t JOIN FETCH t.tag " +
+            "WHERE s.startDate BETWEEN :start AND :end")
     List<Session> findByDateRange(
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT s.id AS id, g.name AS tag, g.color AS tagColor, t.name AS task, " +
+            "s.title AS title, s.description AS description, s.totalMinutes AS totalMinutes, " +
+            "s.startDate AS startDate, s.endDate AS endDate, s.rating AS rating " +
+            "FROM Session s JOIN s.task t JOIN t.tag g ORDER BY s.id")
+    Stream<SessionStatsView> streamAllForStats();
+
+    @EntityGraph(attributePaths = {"task", "task.tag"})
+    List<Session> findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(Long since, Long below, Limit limit);
 }
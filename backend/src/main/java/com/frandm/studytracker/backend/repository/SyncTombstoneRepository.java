@@ -0,0 +1,36 @@
+package com.frandm.studytracker.backend.repository;
+
+import com.frandm.studytracker.backend.model.SyncTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+    List<SyncTombstone> findByRowVersionGreaterThanAndRowVersionLessThanAndTableNameInOrderByRowVersionAsc(
+            Long since, Long below, Collection<String> tableNames, Limit limit);
+
+    @Query(value = "SELECT row_version_watermark()", nativeQuery = true)
+    long findVersionWatermark();
+
+    @Query(value = "SELECT MAX(row_version) FROM sync_tombstones WHERE deleted_at < :cutoff", nativeQuery = true)
+    Long findMaxRowVersionDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = "DELETE FROM sync_tombstones WHERE row_version <= :through", nativeQuery = true)
+    int deleteThrough(@Param("through") long through);
+
+    @Query(value = "SELECT pruned_through FROM sync_state WHERE id = 1", nativeQuery = true)
+    long findPrunedThrough();
+
+    @Modifying
+    @Query(value = "UPDATE sync_state SET pruned_through = GREATEST(pruned_through, :through) WHERE id = 1",
+            nativeQuery = true)
+    void advancePrunedThrough(@Param("through") long through);
+}
@@ -1,7 +1,10 @@
 package com.frandm.studytracker.backend.repository;
 
 import com.frandm.studytracker.backend.model.Tag;
+import com.frandm.studytracker.backend.repository.projection.CatalogRowView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +15,10 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     List<Tag> findByIsArchivedFalseOrderByNameAsc();
     List<Tag> findByIsArchivedFalseAndIsFavoriteTrueOrderByNameAsc();
     Optional<Tag> findByName(String name);
+    List<Tag> findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(Long since, Long below, Limit limit);
+
+    @Query("SELECT g.id AS tagId, g.name AS tagName, g.color AS tagColor, " +
+            "g.isArchived AS archived, g.isFavorite AS favorite, t.id AS taskId, t.name AS taskName " +
+            "FROM Tag g LEFT JOIN Task t ON t.tag = g ORDER BY g.name ASC, t.name ASC")
+    List<CatalogRowView> findCatalogRows();
 }
@@ -1,6 +1,8 @@
 package com.frandm.studytracker.backend.repository;
 
 import com.frandm.studytracker.backend.model.Task;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -8,7 +10,19 @@ import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = "tag")
+    List<Task> findAll();
+
+    @EntityGraph(attributePaths = "tag")
     List<Task> findByTag_NameOrderByNameAsc(String tagName);
+
+    @EntityGraph(attributePaths = "tag")
     Optional<Task> findByTag_IdAndName(Long tagId, String name);
+
     Optional<Task> findByIdAndTag_Name(Long id, String tagName);
+
+    @EntityGraph(attributePaths = "tag")
+    List<Task> findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(Long since, Long below, Limit limit);
 }
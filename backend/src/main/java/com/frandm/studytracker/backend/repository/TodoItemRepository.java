@@ -1,6 +1,7 @@
 package com.frandm.studytracker.backend.repository;
 
 import com.frandm.studytracker.backend.model.TodoItem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
@@ -10,4 +11,5 @@ import java.util.List;
 public interface TodoItemRepository extends JpaRepository<TodoItem, Long> {
     List<TodoItem> findAllByOrderByIdAsc();
     List<TodoItem> findByDateOrderByIdAsc(LocalDate date);
+    List<TodoItem> findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(Long since, Long below, Limit limit);
 }
@@ -0,0 +1,11 @@
+package com.frandm.studytracker.backend.repository.projection;
+
+public interface CatalogRowView {
+    Long getTagId();
+    String getTagName();
+    String getTagColor();
+    Boolean getArchived();
+    Boolean getFavorite();
+    Long getTaskId();
+    String getTaskName();
+}
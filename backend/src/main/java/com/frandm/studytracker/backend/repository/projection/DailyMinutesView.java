@@ -0,0 +1,8 @@
+package com.frandm.studytracker.backend.repository.projection;
+
+import java.time.LocalDate;
+
+public interface DailyMinutesView {
+    LocalDate getSessionDate();
+    Long getMinutes();
+}
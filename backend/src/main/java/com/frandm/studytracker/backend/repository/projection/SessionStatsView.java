@@ -0,0 +1,16 @@
+package com.frandm.studytracker.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface SessionStatsView {
+    Long getId();
+    String getTag();
+    String getTagColor();
+    String getTask();
+    String getTitle();
+    String getDescription();
+    Integer getTotalMinutes();
+    LocalDateTime getStartDate();
+    LocalDateTime getEndDate();
+    Integer getRating();
+}
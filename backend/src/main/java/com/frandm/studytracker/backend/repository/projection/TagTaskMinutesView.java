@@ -0,0 +1,7 @@
+package com.frandm.studytracker.backend.repository.projection;
+
+public interface TagTaskMinutesView {
+    String getTag();
+    String getTask();
+    Long getMinutes();
+}
@@ -0,0 +1,6 @@
+package com.frandm.studytracker.backend.repository.projection;
+
+public interface WeeklyMinutesView {
+    String getWeek();
+    Long getMinutes();
+}
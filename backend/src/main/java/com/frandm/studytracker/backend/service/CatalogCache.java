@@ -0,0 +1,59 @@
+package com.frandm.studytracker.backend.service;
+
+import com.frandm.studytracker.backend.model.Tag;
+import com.frandm.studytracker.backend.model.Task;
+import com.frandm.studytracker.backend.util.LruCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class CatalogCache {
+
+    private static final int MAX_TAGS = 256;
+    private static final int MAX_TASKS = 4096;
+
+    private final LruCache<String, Tag> tagsByName = new LruCache<>(MAX_TAGS);
+    private final LruCache<TaskKey, Task> tasksByTag = new LruCache<>(MAX_TASKS);
+
+    public Tag getTag(String name) {
+        return tagsByName.get(name);
+    }
+
+    public Task getTask(Long tagId, String name) {
+        return tasksByTag.get(new TaskKey(tagId, name));
+    }
+
+    public void putTag(Tag tag) {
+        afterCommit(() -> tagsByName.put(tag.getName(), tag));
+    }
+
+    public void putTask(Task task) {
+        afterCommit(() -> tasksByTag.put(new TaskKey(task.getTag().getId(), task.getName()), task));
+    }
+
+    public void invalidate() {
+        clear();
+        afterCommit(this::clear);
+    }
+
+    private void clear() {
+        tagsByName.clear();
+        tasksByTag.clear();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record TaskKey(Long tagId, String name) {}
+}
@@ -3,6 +3,7 @@ package com.frandm.studytracker.backend.service;
 import com.frandm.studytracker.backend.model.DayNote;
 import com.frandm.studytracker.backend.repository.DayNoteRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -21,7 +22,11 @@ public class DayNoteService {
 
     public DayNote getById(Long id) {
         return dayNoteRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("DayNote not found: " + id));
+                .orElseThrow(() -> new NotFoundException("DayNote not found: " + id));
+    }
+
+    public List<DayNote> getByDateRange(LocalDate start, LocalDate end) {
+        return dayNoteRepository.findByDateBetweenOrderByDateAsc(start, end);
     }
 
     public DayNote getOrEmpty(LocalDate date) {
@@ -42,9 +47,16 @@ public class DayNoteService {
         });
     }
 
+    @Transactional
+    public DayNote upsertByDate(LocalDate date, String content) {
+        dayNoteRepository.upsertContent(date, content != null ? content : "");
+        return dayNoteRepository.findByDate(date)
+                .orElseThrow(() -> new NotFoundException("DayNote not found for date: " + date));
+    }
+
     public DayNote fullUpdate(Long id, LocalDate date, String content) {
         DayNote note = dayNoteRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("DayNote not found: " + id));
+                .orElseThrow(() -> new NotFoundException("DayNote not found: " + id));
         if (date != null) note.setDate(date);
         note.setContent(content != null ? content : "");
         return dayNoteRepository.save(note);
@@ -52,7 +64,7 @@ public class DayNoteService {
 
     public DayNote partialUpdate(Long id, String content) {
         DayNote note = dayNoteRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("DayNote not found: " + id));
+                .orElseThrow(() -> new NotFoundException("DayNote not found: " + id));
         if (content != null) note.setContent(content);
         return dayNoteRepository.save(note);
     }
@@ -3,7 +3,9 @@ package com.frandm.studytracker.backend.service;
 import com.frandm.studytracker.backend.model.Deadline;
 import com.frandm.studytracker.backend.model.Task;
 import com.frandm.studytracker.backend.repository.DeadlineRepository;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -12,10 +14,13 @@ public class DeadlineService {
 
     private final DeadlineRepository deadlineRepository;
     private final TaskService taskService;
+    private final TableVersions tableVersions;
 
-    public DeadlineService(DeadlineRepository deadlineRepository, TaskService taskService) {
+    public DeadlineService(DeadlineRepository deadlineRepository, TaskService taskService,
+                           TableVersions tableVersions) {
         this.deadlineRepository = deadlineRepository;
         this.taskService = taskService;
+        this.tableVersions = tableVersions;
     }
 
     public List<Deadline> getByDateRange(LocalDateTime start, LocalDateTime end) {
@@ -28,21 +33,25 @@ public class DeadlineService {
 
     public Deadline getById(Long id) {
         return deadlineRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Deadline not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Deadline not found: " + id));
     }
 
+    @Transactional
     public Deadline save(String tagName, String tagColor, String taskName,
                          String title, String description, String urgency,
                          LocalDateTime dueDate, Boolean allDay, Boolean isCompleted) {
+        tableVersions.touch(Table.DEADLINES);
         Deadline deadline = new Deadline();
         return populateAndSave(deadline, tagName, tagColor, taskName, title, description, urgency, dueDate, allDay, isCompleted);
     }
 
+    @Transactional
     public Deadline fullUpdate(Long id, String tagName, String tagColor, String taskName,
                                String title, String description, String urgency,
                                LocalDateTime dueDate, Boolean allDay, Boolean isCompleted) {
+        tableVersions.touch(Table.DEADLINES);
         Deadline deadline = deadlineRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Deadline not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Deadline not found: " + id));
         deadline.setTask(resolveTask(tagName, tagColor, taskName));
         deadline.setTitle(title);
         deadline.setDescription(description);
@@ -53,11 +62,13 @@ public class DeadlineService {
         return deadlineRepository.save(deadline);
     }
 
+    @Transactional
     public Deadline partialUpdate(Long id, String title, String description,
                                   String urgency, LocalDateTime dueDate,
                                   Boolean allDay, Boolean isCompleted) {
+        tableVersions.touch(Table.DEADLINES);
         Deadline deadline = deadlineRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Deadline not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Deadline not found: " + id));
         if (title != null) deadline.setTitle(title);
         if (description != null) deadline.setDescription(description);
         if (urgency != null) deadline.setUrgency(urgency);
@@ -95,11 +106,15 @@ public class DeadlineService {
         return taskService.getOrCreate(tagName, tagColor, taskName);
     }
 
+    @Transactional
     public void delete(Long id) {
+        tableVersions.touch(Table.DEADLINES);
         deadlineRepository.deleteById(id);
     }
 
+    @Transactional
     public Deadline toggleCompleted(Long id) {
+        tableVersions.touch(Table.DEADLINES);
         Deadline d = deadlineRepository.findById(id).orElseThrow();
         d.setIsCompleted(!d.getIsCompleted());
         return deadlineRepository.save(d);
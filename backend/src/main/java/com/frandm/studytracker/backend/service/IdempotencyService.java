@@ -0,0 +1,50 @@
+package com.frandm.studytracker.backend.service;
+
+import com.frandm.studytracker.backend.model.IdempotencyKey;
+import com.frandm.studytracker.backend.repository.IdempotencyKeyRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class IdempotencyService {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+    private static final long PRUNE_INTERVAL_MS = Duration.ofHours(1).toMillis();
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final AtomicLong lastPrunedAt = new AtomicLong();
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+    }
+
+    @Transactional
+    public boolean claim(String key, String method, String path) {
+        long now = System.currentTimeMillis();
+        long last = lastPrunedAt.get();
+        if (now - last >= PRUNE_INTERVAL_MS && lastPrunedAt.compareAndSet(last, now)) {
+            idempotencyKeyRepository.deleteOlderThan(LocalDateTime.now().minus(RETENTION));
+        }
+        return idempotencyKeyRepository.claim(key, method, path) > 0
+                || idempotencyKeyRepository.reclaimAbandoned(key, method, path, LocalDateTime.now().minus(CLAIM_LEASE)) > 0;
+    }
+
+    @Transactional
+    public void complete(String key, int status, String contentType, String body) {
+        idempotencyKeyRepository.complete(key, status, contentType, body);
+    }
+
+    @Transactional
+    public void release(String key) {
+        idempotencyKeyRepository.release(key);
+    }
+
+    public Optional<IdempotencyKey> find(String key) {
+        return idempotencyKeyRepository.findById(key);
+    }
+}
@@ -3,7 +3,9 @@ package com.frandm.studytracker.backend.service;
 import com.frandm.studytracker.backend.model.ScheduledSession;
 import com.frandm.studytracker.backend.model.Task;
 import com.frandm.studytracker.backend.repository.ScheduledSessionRepository;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -12,11 +14,13 @@ public class ScheduledSessionService {
 
     private final ScheduledSessionRepository scheduledSessionRepository;
     private final TaskService taskService;
+    private final TableVersions tableVersions;
 
     public ScheduledSessionService(ScheduledSessionRepository scheduledSessionRepository,
-                                   TaskService taskService) {
+                                   TaskService taskService, TableVersions tableVersions) {
         this.scheduledSessionRepository = scheduledSessionRepository;
         this.taskService = taskService;
+        this.tableVersions = tableVersions;
     }
 
     public List<ScheduledSession> getAll() {
@@ -25,15 +29,17 @@ public class ScheduledSessionService {
 
     public ScheduledSession getById(Long id) {
         return scheduledSessionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("ScheduledSession not found: " + id));
+                .orElseThrow(() -> new NotFoundException("ScheduledSession not found: " + id));
     }
 
     public List<ScheduledSession> getByDateRange(LocalDateTime start, LocalDateTime end) {
         return scheduledSessionRepository.findByDateRange(start, end);
     }
 
+    @Transactional
     public ScheduledSession save(String tagName, String taskName,
                                  String title, LocalDateTime start, LocalDateTime end) {
+        tableVersions.touch(Table.SCHEDULED_SESSIONS);
         if (start == null || end == null) {
             throw new RuntimeException("Scheduled session startDate and endDate are required");
         }
@@ -46,10 +52,12 @@ public class ScheduledSessionService {
         return scheduledSessionRepository.save(session);
     }
 
+    @Transactional
     public ScheduledSession fullUpdate(Long id, String tagName, String taskName, String title,
                                        LocalDateTime start, LocalDateTime end) {
+        tableVersions.touch(Table.SCHEDULED_SESSIONS);
         ScheduledSession session = scheduledSessionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("ScheduledSession not found: " + id));
+                .orElseThrow(() -> new NotFoundException("ScheduledSession not found: " + id));
         Task task = taskService.getOrCreate(tagName, "#94a3b8", taskName);
         session.setTask(task);
         session.setTitle(title);
@@ -58,16 +66,20 @@ public class ScheduledSessionService {
         return scheduledSessionRepository.save(session);
     }
 
+    @Transactional
     public ScheduledSession partialUpdate(Long id, String title, LocalDateTime start, LocalDateTime end) {
+        tableVersions.touch(Table.SCHEDULED_SESSIONS);
         ScheduledSession session = scheduledSessionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("ScheduledSession not found: " + id));
+                .orElseThrow(() -> new NotFoundException("ScheduledSession not found: " + id));
         if (title != null) session.setTitle(title);
         if (start != null) session.setStartDate(start);
         if (end != null) session.setEndDate(end);
         return scheduledSessionRepository.save(session);
     }
 
+    @Transactional
     public void delete(Long id) {
+        tableVersions.touch(Table.SCHEDULED_SESSIONS);
         scheduledSessionRepository.deleteById(id);
     }
 }
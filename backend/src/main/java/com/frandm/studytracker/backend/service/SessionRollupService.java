@@ -0,0 +1,62 @@
+package com.frandm.studytracker.backend.service;
+
+import com.frandm.studytracker.backend.model.Session;
+import com.frandm.studytracker.backend.model.SessionDailyRollup;
+import com.frandm.studytracker.backend.repository.SessionDailyRollupRepository;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+public class SessionRollupService {
+
+    private final SessionDailyRollupRepository rollupRepository;
+
+    public SessionRollupService(SessionDailyRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    public void add(Session session) {
+        apply(session, 1);
+    }
+
+    public void addAll(Collection<Session> sessions) {
+        Map<SessionDailyRollup.Key, long[]> deltas = new HashMap<>();
+        for (Session session : sessions) {
+            SessionDailyRollup.Key key = new SessionDailyRollup.Key(
+                    session.getStartDate().toLocalDate(),
+                    session.getTask().getTag().getId(),
+                    session.getTask().getId()
+            );
+            long[] delta = deltas.computeIfAbsent(key, k -> new long[3]);
+            delta[0] += session.getTotalMinutes() != null ? session.getTotalMinutes() : 0;
+            delta[1]++;
+            delta[2] += session.getRating() != null ? session.getRating() : 0;
+        }
+        deltas.forEach((key, delta) -> rollupRepository.applyDelta(
+                key.getDate(), key.getTagId(), key.getTaskId(), delta[0], (int) delta[1], delta[2]));
+    }
+
+    public void remove(Session session) {
+        apply(session, -1);
+    }
+
+    public void reassignTask(Long taskId, Long tagId) {
+        rollupRepository.reassignTag(taskId, tagId);
+    }
+
+    private void apply(Session session, int sign) {
+        LocalDate date = session.getStartDate().toLocalDate();
+        Long taskId = session.getTask().getId();
+        Long tagId = session.getTask().getTag().getId();
+        long minutes = session.getTotalMinutes() != null ? session.getTotalMinutes() : 0;
+        long rating = session.getRating() != null ? session.getRating() : 0;
+
+        rollupRepository.applyDelta(date, tagId, taskId, sign * minutes, sign, sign * rating);
+        if (sign < 0) {
+            rollupRepository.deleteIfEmpty(date, tagId, taskId);
+        }
+    }
+}
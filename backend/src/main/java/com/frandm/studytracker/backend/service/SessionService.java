@@ -3,23 +3,45 @@ package com.frandm.studytracker.backend.service;
 import com.frandm.studytracker.backend.model.Session;
 import com.frandm.studytracker.backend.model.Task;
 import com.frandm.studytracker.backend.repository.SessionRepository;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class SessionService {
 
+    private static final int IMPORT_FLUSH_SIZE = 500;
+
     private final SessionRepository sessionRepository;
     private final TaskService taskService;
+    private final SessionRollupService rollupService;
+    private final EntityManager entityManager;
+    private final TableVersions tableVersions;
 
-    public SessionService(SessionRepository sessionRepository, TaskService taskService) {
+    public SessionService(SessionRepository sessionRepository, TaskService taskService,
+                          SessionRollupService rollupService, EntityManager entityManager,
+                          TableVersions tableVersions) {
         this.sessionRepository = sessionRepository;
         this.taskService = taskService;
+        this.rollupService = rollupService;
+        this.entityManager = entityManager;
+        this.tableVersions = tableVersions;
     }
 
+    public record NewSession(String tagName, String tagColor, String taskName,
+                             String title, String description,
+                             Integer totalMinutes, LocalDateTime startDate,
+                             LocalDateTime endDate, Integer rating) {}
+
     public Page<Session> getFiltered(String tag, String task, int page, int size) {
         return sessionRepository.findFiltered(
                 tag == null || tag.isEmpty() ? null : tag,
@@ -28,23 +50,36 @@ public class SessionService {
         );
     }
 
+    public Slice<Session> getSlice(String tag, String task,
+                                   LocalDateTime afterStart, Long afterId, int limit) {
+        String tagFilter = tag == null || tag.isEmpty() ? null : tag;
+        String taskFilter = task == null || task.isEmpty() ? null : task;
+        PageRequest firstPage = PageRequest.of(0, limit);
+        if (afterStart == null || afterId == null) {
+            return sessionRepository.findFirstSlice(tagFilter, taskFilter, firstPage);
+        }
+        return sessionRepository.findSliceAfter(tagFilter, taskFilter, afterStart, afterId, firstPage);
+    }
+
     public List<Session> getAll() {
         return sessionRepository.findAll();
     }
 
     public Session getById(Long id) {
         return sessionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Session not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Session not found: " + id));
     }
 
     public List<Session> getByDateRange(LocalDateTime start, LocalDateTime end) {
         return sessionRepository.findByDateRange(start, end);
     }
 
+    @Transactional
     public Session save(String tagName, String tagColor, String taskName,
                         String title, String description,
                         Integer totalMinutes, LocalDateTime startDate,
                         LocalDateTime endDate, Integer rating) {
+        tableVersions.touch(Table.SESSIONS);
         if (startDate == null || endDate == null) {
             throw new RuntimeException("Session startDate and endDate are required");
         }
@@ -57,15 +92,54 @@ public class SessionService {
         session.setStartDate(startDate);
         session.setEndDate(endDate);
         session.setRating(rating);
-        return sessionRepository.save(session);
+        Session saved = sessionRepository.save(session);
+        rollupService.add(saved);
+        return saved;
     }
 
+    @Transactional
+    public int importBatch(List<NewSession> sessions) {
+        tableVersions.touch(Table.SESSIONS);
+        Map<TaskRef, Task> tasks = new HashMap<>();
+        List<Session> chunk = new ArrayList<>(IMPORT_FLUSH_SIZE);
+        int imported = 0;
+        for (NewSession data : sessions) {
+            if (data.startDate() == null || data.endDate() == null) {
+                throw new RuntimeException("Session startDate and endDate are required");
+            }
+            Task task = tasks.computeIfAbsent(new TaskRef(data.tagName(), data.taskName()),
+                    ref -> taskService.getOrCreate(data.tagName(), data.tagColor(), data.taskName()));
+            Session session = new Session();
+            session.setTask(task);
+            session.setTitle(data.title());
+            session.setDescription(data.description());
+            session.setTotalMinutes(data.totalMinutes());
+            session.setStartDate(data.startDate());
+            session.setEndDate(data.endDate());
+            session.setRating(data.rating());
+            sessionRepository.save(session);
+            chunk.add(session);
+            imported++;
+            if (chunk.size() == IMPORT_FLUSH_SIZE) {
+                rollupService.addAll(chunk);
+                chunk.clear();
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        rollupService.addAll(chunk);
+        return imported;
+    }
+
+    @Transactional
     public Session fullUpdate(Long id, String tagName, String tagColor, String taskName,
                               String title, String description,
                               Integer totalMinutes, LocalDateTime startDate,
                               LocalDateTime endDate, Integer rating) {
+        tableVersions.touch(Table.SESSIONS);
         Session session = sessionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Session not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Session not found: " + id));
+        rollupService.remove(session);
         Task task = taskService.getOrCreate(tagName, tagColor, taskName);
         session.setTask(task);
         session.setTitle(title);
@@ -74,13 +148,18 @@ public class SessionService {
         session.setStartDate(startDate);
         session.setEndDate(endDate);
         session.setRating(rating);
-        return sessionRepository.save(session);
+        Session saved = sessionRepository.save(session);
+        rollupService.add(saved);
+        return saved;
     }
 
+    @Transactional
     public Session partialUpdate(Long id, String tagName, String tagColor, String taskName,
                                  String title, String description, Integer rating) {
+        tableVersions.touch(Table.SESSIONS);
         Session session = sessionRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Session not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Session not found: " + id));
+        rollupService.remove(session);
         if (tagName != null && taskName != null) {
             Task task = taskService.getOrCreate(tagName, tagColor, taskName);
             session.setTask(task);
@@ -88,10 +167,19 @@ public class SessionService {
         if (title != null) session.setTitle(title);
         if (description != null) session.setDescription(description);
         if (rating != null) session.setRating(rating);
-        return sessionRepository.save(session);
+        Session saved = sessionRepository.save(session);
+        rollupService.add(saved);
+        return saved;
     }
 
+    @Transactional
     public void delete(Long id) {
-        sessionRepository.deleteById(id);
+        tableVersions.touch(Table.SESSIONS);
+        sessionRepository.findById(id).ifPresent(session -> {
+            rollupService.remove(session);
+            sessionRepository.delete(session);
+        });
     }
+
+    private record TaskRef(String tagName, String taskName) {}
 }
@@ -1,75 +1,145 @@
 package com.frandm.studytracker.backend.service;
 
-import com.frandm.studytracker.backend.model.Session;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frandm.studytracker.backend.repository.SessionDailyRollupRepository;
 import com.frandm.studytracker.backend.repository.SessionRepository;
 import com.frandm.studytracker.backend.repository.TaskRepository;
+import com.frandm.studytracker.backend.repository.projection.DailyMinutesView;
+import com.frandm.studytracker.backend.repository.projection.SessionStatsView;
+import com.frandm.studytracker.backend.repository.projection.TagTaskMinutesView;
+import com.frandm.studytracker.backend.repository.projection.TaskMinutesView;
+import com.frandm.studytracker.backend.repository.projection.WeeklyMinutesView;
 import com.frandm.studytracker.backend.util.DateTimeUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class StatsService {
 
     private final SessionRepository sessionRepository;
     private final TaskRepository taskRepository;
+    private final SessionDailyRollupRepository rollupRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
 
     public StatsService(SessionRepository sessionRepository,
-                        TaskRepository taskRepository) {
+                        TaskRepository taskRepository,
+                        SessionDailyRollupRepository rollupRepository,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager) {
         this.sessionRepository = sessionRepository;
         this.taskRepository = taskRepository;
+        this.rollupRepository = rollupRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     public Map<LocalDate, Integer> getHeatmap() {
-        LocalDateTime from = LocalDate.now().minusYears(1).atStartOfDay();
-        LocalDateTime to = LocalDateTime.now();
-        List<Session> sessions = sessionRepository.findByDateRange(from, to);
-        return sessions.stream().collect(Collectors.groupingBy(
-                s -> s.getStartDate().toLocalDate(),
-                Collectors.summingInt(Session::getTotalMinutes)
-        ));
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusYears(1);
+        Map<LocalDate, Integer> heatmap = new LinkedHashMap<>();
+        for (DailyMinutesView day : rollupRepository.sumMinutesByDay(from, to)) {
+            heatmap.put(day.getSessionDate(), day.getMinutes().intValue());
+        }
+        return heatmap;
     }
 
     public Map<String, Integer> getSummaryByTag(String tagName) {
-        List<Session> sessions = sessionRepository
-                .findByTask_Tag_NameOrderByStartDateDesc(tagName);
         Map<String, Integer> summary = new LinkedHashMap<>();
-        sessions.forEach(s -> summary.merge(
-                s.getTask().getName(),
-                s.getTotalMinutes(),
-                Integer::sum
-        ));
+        for (TaskMinutesView task : rollupRepository.sumMinutesByTask(tagName)) {
+            summary.put(task.getTask(), task.getMinutes().intValue());
+        }
         return summary;
     }
 
-    public List<Map<String, Object>> getAllSessionsForStats() {
-        return sessionRepository.findAll().stream().map(s -> {
-            Map<String, Object> map = new LinkedHashMap<>();
-            map.put("id", s.getId());
-            map.put("tag", s.getTask().getTag().getName());
-            map.put("tagColor", s.getTask().getTag().getColor());
-            map.put("task", s.getTask().getName());
-            map.put("title", s.getTitle());
-            map.put("description", s.getDescription());
-            map.put("totalMinutes", s.getTotalMinutes());
-            map.put("startDate", DateTimeUtils.formatApiTimestamp(s.getStartDate()));
-            map.put("endDate", s.getEndDate() != null ? DateTimeUtils.formatApiTimestamp(s.getEndDate()) : null);
-            map.put("rating", s.getRating());
-            return map;
-        }).collect(Collectors.toList());
+    public Map<String, Map<String, Object>> getTagTotals(LocalDate start, LocalDate end) {
+        List<TagTaskMinutesView> rows = start == null && end == null
+                ? rollupRepository.sumMinutesByTagAndTask()
+                : rollupRepository.sumMinutesByTagAndTask(
+                        start != null ? start : LocalDate.of(1, 1, 1),
+                        end != null ? end : LocalDate.of(9999, 12, 31));
+
+        Map<String, Map<String, Object>> totals = new LinkedHashMap<>();
+        for (TagTaskMinutesView row : rows) {
+            Map<String, Object> tag = totals.computeIfAbsent(row.getTag(), k -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("total", 0);
+                entry.put("tasks", new LinkedHashMap<String, Integer>());
+                return entry;
+            });
+            int minutes = row.getMinutes().intValue();
+            tag.put("total", (Integer) tag.get("total") + minutes);
+            @SuppressWarnings("unchecked")
+            Map<String, Integer> tasks = (Map<String, Integer>) tag.get("tasks");
+            tasks.put(row.getTask(), minutes);
+        }
+        return totals;
+    }
+
+    public void writeAllSessionsForStats(OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.writeStartArray();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<SessionStatsView> rows = sessionRepository.streamAllForStats()) {
+                    Iterator<SessionStatsView> it = rows.iterator();
+                    while (it.hasNext()) {
+                        writeSessionRow(json, it.next());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            json.writeEndArray();
+        }
+    }
+
+    private void writeSessionRow(JsonGenerator json, SessionStatsView s) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", s.getId());
+        json.writeStringField("tag", s.getTag());
+        json.writeStringField("tagColor", s.getTagColor());
+        json.writeStringField("task", s.getTask());
+        json.writeStringField("title", s.getTitle());
+        json.writeStringField("description", s.getDescription());
+        writeIntegerField(json, "totalMinutes", s.getTotalMinutes());
+        json.writeStringField("startDate", formatTimestamp(s.getStartDate()));
+        json.writeStringField("endDate", formatTimestamp(s.getEndDate()));
+        writeIntegerField(json, "rating", s.getRating());
+        json.writeEndObject();
+    }
+
+    private void writeIntegerField(JsonGenerator json, String name, Integer value) throws IOException {
+        if (value != null) {
+            json.writeNumberField(name, value);
+        } else {
+            json.writeNullField(name);
+        }
+    }
+
+    private String formatTimestamp(LocalDateTime value) {
+        return value != null ? DateTimeUtils.formatApiTimestamp(value) : null;
     }
 
     public Map<String, Double> getWeeklyStats() {
-        LocalDateTime from = LocalDate.now().minusWeeks(12).atStartOfDay();
-        List<Session> sessions = sessionRepository.findByDateRange(from, LocalDateTime.now());
-        return sessions.stream().collect(Collectors.groupingBy(
-                s -> s.getStartDate().toLocalDate()
-                        .with(java.time.DayOfWeek.MONDAY).toString(),
-                Collectors.summingDouble(s -> s.getTotalMinutes() / 60.0)
-        ));
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusWeeks(12);
+        Map<String, Double> weekly = new LinkedHashMap<>();
+        for (WeeklyMinutesView week : rollupRepository.sumMinutesByWeek(from, to)) {
+            weekly.put(week.getWeek(), week.getMinutes() / 60.0);
+        }
+        return weekly;
     }
 }
@@ -0,0 +1,189 @@
+package com.frandm.studytracker.backend.service;
+
+import com.frandm.studytracker.backend.model.DayNote;
+import com.frandm.studytracker.backend.model.Deadline;
+import com.frandm.studytracker.backend.model.ScheduledSession;
+import com.frandm.studytracker.backend.model.Session;
+import com.frandm.studytracker.backend.model.SyncTombstone;
+import com.frandm.studytracker.backend.model.Tag;
+import com.frandm.studytracker.backend.model.Task;
+import com.frandm.studytracker.backend.model.TodoItem;
+import com.frandm.studytracker.backend.repository.DayNoteRepository;
+import com.frandm.studytracker.backend.repository.DeadlineRepository;
+import com.frandm.studytracker.backend.repository.ScheduledSessionRepository;
+import com.frandm.studytracker.backend.repository.SessionRepository;
+import com.frandm.studytracker.backend.repository.SyncTombstoneRepository;
+import com.frandm.studytracker.backend.repository.TagRepository;
+import com.frandm.studytracker.backend.repository.TaskRepository;
+import com.frandm.studytracker.backend.repository.TodoItemRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+@Service
+public class SyncService {
+
+    public static final List<String> TABLES = List.of(
+            "tags", "tasks", "sessions", "scheduled_sessions", "deadlines", "day_note", "todo_item");
+    private static final int MAX_LIMIT = 5000;
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+    private static final long PRUNE_INTERVAL_MS = Duration.ofHours(1).toMillis();
+
+    private final TagRepository tagRepository;
+    private final TaskRepository taskRepository;
+    private final SessionRepository sessionRepository;
+    private final ScheduledSessionRepository scheduledSessionRepository;
+    private final DeadlineRepository deadlineRepository;
+    private final DayNoteRepository dayNoteRepository;
+    private final TodoItemRepository todoItemRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final AtomicLong lastPrunedAt = new AtomicLong();
+
+    public SyncService(TagRepository tagRepository,
+                       TaskRepository taskRepository,
+                       SessionRepository sessionRepository,
+                       ScheduledSessionRepository scheduledSessionRepository,
+                       DeadlineRepository deadlineRepository,
+                       DayNoteRepository dayNoteRepository,
+                       TodoItemRepository todoItemRepository,
+                       SyncTombstoneRepository tombstoneRepository) {
+        this.tagRepository = tagRepository;
+        this.taskRepository = taskRepository;
+        this.sessionRepository = sessionRepository;
+        this.scheduledSessionRepository = scheduledSessionRepository;
+        this.deadlineRepository = deadlineRepository;
+        this.dayNoteRepository = dayNoteRepository;
+        this.todoItemRepository = todoItemRepository;
+        this.tombstoneRepository = tombstoneRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> changesSince(long since, long knownPrunedThrough, Collection<String> tables, int limit) {
+        Set<String> requested = tables == null || tables.isEmpty()
+                ? new LinkedHashSet<>(TABLES)
+                : new LinkedHashSet<>(tables);
+        for (String table : requested) {
+            if (!TABLES.contains(table)) {
+                throw new RuntimeException("Unknown sync table: " + table);
+            }
+        }
+        Limit page = Limit.of(Math.max(1, Math.min(limit, MAX_LIMIT)));
+        long below = tombstoneRepository.findVersionWatermark();
+        long prunedThrough = tombstoneRepository.findPrunedThrough();
+        Map<String, Object> result;
+        if (since > 0 && since < prunedThrough && knownPrunedThrough < prunedThrough) {
+            result = collect(0, below, requested, page);
+            result.put("reset", true);
+        } else {
+            result = collect(since, below, requested, page);
+        }
+        result.put("prunedThrough", prunedThrough);
+        return result;
+    }
+
+    @Transactional
+    public void pruneTombstonesIfDue() {
+        long now = System.currentTimeMillis();
+        long last = lastPrunedAt.get();
+        if (now - last < PRUNE_INTERVAL_MS || !lastPrunedAt.compareAndSet(last, now)) {
+            return;
+        }
+        Long through = tombstoneRepository.findMaxRowVersionDeletedBefore(LocalDateTime.now().minus(TOMBSTONE_RETENTION));
+        if (through != null) {
+            tombstoneRepository.advancePrunedThrough(through);
+            tombstoneRepository.deleteThrough(through);
+        }
+    }
+
+    private Map<String, Object> collect(long since, long below, Set<String> requested, Limit page) {
+        Watermark watermark = new Watermark(since, page.max());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (requested.contains("tags")) {
+            result.put("tags", watermark.track(tagRepository
+                    .findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(since, below, page),
+                    Tag::getRowVersion));
+        }
+        if (requested.contains("tasks")) {
+            result.put("tasks", watermark.track(taskRepository
+                    .findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(since, below, page),
+                    Task::getRowVersion));
+        }
+        if (requested.contains("sessions")) {
+            result.put("sessions", watermark.track(sessionRepository
+                    .findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(since, below, page),
+                    Session::getRowVersion));
+        }
+        if (requested.contains("scheduled_sessions")) {
+            result.put("scheduled_sessions", watermark.track(scheduledSessionRepository
+                    .findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(since, below, page),
+                    ScheduledSession::getRowVersion));
+        }
+        if (requested.contains("deadlines")) {
+            result.put("deadlines", watermark.track(deadlineRepository
+                    .findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(since, below, page),
+                    Deadline::getRowVersion));
+        }
+        if (requested.contains("day_note")) {
+            result.put("day_note", watermark.track(dayNoteRepository
+                    .findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(since, below, page),
+                    DayNote::getRowVersion));
+        }
+        if (requested.contains("todo_item")) {
+            result.put("todo_item", watermark.track(todoItemRepository
+                    .findByRowVersionGreaterThanAndRowVersionLessThanOrderByRowVersionAsc(since, below, page),
+                    TodoItem::getRowVersion));
+        }
+
+        List<SyncTombstone> tombstones = watermark.track(tombstoneRepository
+                .findByRowVersionGreaterThanAndRowVersionLessThanAndTableNameInOrderByRowVersionAsc(
+                        since, below, requested, page),
+                SyncTombstone::getRowVersion);
+        result.put("deleted", tombstones.stream()
+                .map(t -> Map.<String, Object>of("table", t.getTableName(), "id", t.getRowId()))
+                .toList());
+
+        result.put("version", watermark.version());
+        result.put("hasMore", watermark.truncated);
+        return result;
+    }
+
+    private static final class Watermark {
+        private final int pageSize;
+        private long max;
+        private long ceiling = Long.MAX_VALUE;
+        private boolean truncated;
+
+        Watermark(long since, int pageSize) {
+            this.max = since;
+            this.pageSize = pageSize;
+        }
+
+        <T> List<T> track(List<T> rows, ToLongFunction<T> version) {
+            if (rows.isEmpty()) {
+                return rows;
+            }
+            long last = version.applyAsLong(rows.getLast());
+            max = Math.max(max, last);
+            if (rows.size() >= pageSize) {
+                truncated = true;
+                ceiling = Math.min(ceiling, last);
+            }
+            return rows;
+        }
+
+        long version() {
+            return truncated ? ceiling : max;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.frandm.studytracker.backend.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TableVersions {
+
+    public enum Table { TAGS, TASKS, SESSIONS, SCHEDULED_SESSIONS, DEADLINES }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Table, AtomicLong> versions = new EnumMap<>(Table.class);
+
+    public TableVersions() {
+        for (Table table : Table.values()) {
+            versions.put(table, new AtomicLong());
+        }
+    }
+
+    public void touch(Table... tables) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(tables);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(tables);
+            }
+        });
+    }
+
+    public String etag(Table... tables) {
+        StringBuilder tag = new StringBuilder("\"").append(epoch);
+        for (Table table : tables) {
+            tag.append('-').append(versions.get(table).get());
+        }
+        return tag.append('"').toString();
+    }
+
+    private void bump(Table... tables) {
+        for (Table table : tables) {
+            versions.get(table).incrementAndGet();
+        }
+    }
+}
@@ -2,16 +2,27 @@ package com.frandm.studytracker.backend.service;
 
 import com.frandm.studytracker.backend.model.Tag;
 import com.frandm.studytracker.backend.repository.TagRepository;
+import com.frandm.studytracker.backend.repository.projection.CatalogRowView;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final CatalogCache catalogCache;
+    private final TableVersions tableVersions;
 
-    public TagService(TagRepository tagRepository) {
+    public TagService(TagRepository tagRepository, CatalogCache catalogCache,
+                      TableVersions tableVersions) {
         this.tagRepository = tagRepository;
+        this.catalogCache = catalogCache;
+        this.tableVersions = tableVersions;
     }
 
     public List<Tag> getAll() {
@@ -26,39 +37,77 @@ public class TagService {
         return tagRepository.findByIsArchivedFalseAndIsFavoriteTrueOrderByNameAsc();
     }
 
+    public List<Map<String, Object>> getCatalog() {
+        Map<Long, Map<String, Object>> tags = new LinkedHashMap<>();
+        for (CatalogRowView row : tagRepository.findCatalogRows()) {
+            Map<String, Object> tag = tags.computeIfAbsent(row.getTagId(), id -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("id", id);
+                entry.put("name", row.getTagName());
+                entry.put("color", row.getTagColor());
+                entry.put("archived", row.getArchived());
+                entry.put("favorite", row.getFavorite());
+                entry.put("tasks", new ArrayList<Map<String, Object>>());
+                return entry;
+            });
+            if (row.getTaskId() != null) {
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> tasks = (List<Map<String, Object>>) tag.get("tasks");
+                tasks.add(Map.of("id", row.getTaskId(), "name", row.getTaskName()));
+            }
+        }
+        return new ArrayList<>(tags.values());
+    }
+
     public Tag getById(Long id) {
         return tagRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Tag not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Tag not found: " + id));
     }
 
     public Tag getOrCreate(String name, String color) {
-        return tagRepository.findByName(name).orElseGet(() -> {
-            Tag tag = new Tag();
-            tag.setName(name);
-            tag.setColor(color);
-            return tagRepository.save(tag);
+        Tag cached = catalogCache.getTag(name);
+        if (cached != null) return cached;
+        Tag tag = tagRepository.findByName(name).orElseGet(() -> {
+            Tag created = new Tag();
+            created.setName(name);
+            created.setColor(color);
+            Tag saved = tagRepository.save(created);
+            tableVersions.touch(Table.TAGS);
+            return saved;
         });
+        catalogCache.putTag(tag);
+        return tag;
     }
 
+    @Transactional
     public Tag fullUpdate(Long id, String name, String color) {
         Tag tag = tagRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Tag not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Tag not found: " + id));
         tag.setName(name);
         tag.setColor(color);
+        catalogCache.invalidate();
+        tableVersions.touch(Table.TAGS);
         return tagRepository.save(tag);
     }
 
+    @Transactional
     public Tag partialUpdate(Long id, String name, String color, Boolean isArchived, Boolean isFavorite) {
         Tag tag = tagRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Tag not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Tag not found: " + id));
         if (name != null) tag.setName(name);
         if (color != null) tag.setColor(color);
         if (isArchived != null) tag.setArchived(isArchived);
         if (isFavorite != null) tag.setFavorite(isFavorite);
+        catalogCache.invalidate();
+        tableVersions.touch(Table.TAGS);
         return tagRepository.save(tag);
     }
 
+    @Transactional
     public void delete(Long id) {
+        catalogCache.invalidate();
+        tableVersions.touch(Table.TAGS, Table.TASKS, Table.SESSIONS,
+                Table.SCHEDULED_SESSIONS, Table.DEADLINES);
         tagRepository.deleteById(id);
     }
 }
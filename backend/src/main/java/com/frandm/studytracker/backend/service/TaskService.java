@@ -3,7 +3,9 @@ package com.frandm.studytracker.backend.service;
 import com.frandm.studytracker.backend.model.Tag;
 import com.frandm.studytracker.backend.model.Task;
 import com.frandm.studytracker.backend.repository.TaskRepository;
+import com.frandm.studytracker.backend.service.TableVersions.Table;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 @Service
@@ -11,10 +13,18 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final TagService tagService;
+    private final SessionRollupService rollupService;
+    private final CatalogCache catalogCache;
+    private final TableVersions tableVersions;
 
-    public TaskService(TaskRepository taskRepository, TagService tagService) {
+    public TaskService(TaskRepository taskRepository, TagService tagService,
+                       SessionRollupService rollupService, CatalogCache catalogCache,
+                       TableVersions tableVersions) {
         this.taskRepository = taskRepository;
         this.tagService = tagService;
+        this.rollupService = rollupService;
+        this.catalogCache = catalogCache;
+        this.tableVersions = tableVersions;
     }
 
     public List<Task> getByTag(String tagName) {
@@ -23,13 +33,19 @@ public class TaskService {
 
     public Task getOrCreate(String tagName, String tagColor, String taskName) {
         Tag tag = tagService.getOrCreate(tagName, tagColor);
-        return taskRepository.findByTag_IdAndName(tag.getId(), taskName)
+        Task cached = catalogCache.getTask(tag.getId(), taskName);
+        if (cached != null) return cached;
+        Task task = taskRepository.findByTag_IdAndName(tag.getId(), taskName)
                 .orElseGet(() -> {
-                    Task task = new Task();
-                    task.setTag(tag);
-                    task.setName(taskName);
-                    return taskRepository.save(task);
+                    Task created = new Task();
+                    created.setTag(tag);
+                    created.setName(taskName);
+                    Task saved = taskRepository.save(created);
+                    tableVersions.touch(Table.TASKS);
+                    return saved;
                 });
+        catalogCache.putTask(task);
+        return task;
     }
 
     public List<Task> getAll() {
@@ -38,30 +54,41 @@ public class TaskService {
 
     public Task getById(Long id) {
         return taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Task not found: " + id));
     }
 
+    @Transactional
     public Task fullUpdate(Long id, String tagName, String tagColor, String name) {
         Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Task not found: " + id));
         Tag tag = tagService.getOrCreate(tagName, tagColor);
         task.setTag(tag);
         task.setName(name);
+        rollupService.reassignTask(task.getId(), tag.getId());
+        catalogCache.invalidate();
+        tableVersions.touch(Table.TASKS);
         return taskRepository.save(task);
     }
 
+    @Transactional
     public Task partialUpdate(Long id, String tagName, String tagColor, String name) {
         Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found: " + id));
+                .orElseThrow(() -> new NotFoundException("Task not found: " + id));
         if (tagName != null && tagColor != null) {
             Tag tag = tagService.getOrCreate(tagName, tagColor);
             task.setTag(tag);
+            rollupService.reassignTask(task.getId(), tag.getId());
         }
         if (name != null) task.setName(name);
+        catalogCache.invalidate();
+        tableVersions.touch(Table.TASKS);
         return taskRepository.save(task);
     }
 
+    @Transactional
     public void delete(Long id) {
+        catalogCache.invalidate();
+        tableVersions.touch(Table.TASKS, Table.SESSIONS, Table.SCHEDULED_SESSIONS, Table.DEADLINES);
         taskRepository.deleteById(id);
     }
 }
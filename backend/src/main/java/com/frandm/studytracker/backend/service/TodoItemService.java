@@ -24,7 +24,7 @@ public class TodoItemService {
 
     public TodoItem getById(Long id) {
         return todoItemRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("TodoItem not found: " + id));
+                .orElseThrow(() -> new NotFoundException("TodoItem not found: " + id));
     }
 
     public TodoItem create(LocalDate date, String text) {
@@ -36,7 +36,7 @@ public class TodoItemService {
 
     public TodoItem fullUpdate(Long id, LocalDate date, String text, Boolean completed) {
         TodoItem item = todoItemRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("TodoItem not found: " + id));
+                .orElseThrow(() -> new NotFoundException("TodoItem not found: " + id));
         item.setDate(date);
         item.setText(text);
         if (completed != null) item.setCompleted(completed);
@@ -45,7 +45,7 @@ public class TodoItemService {
 
     public TodoItem partialUpdate(Long id, String text, Boolean completed) {
         TodoItem item = todoItemRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("TodoItem not found: " + id));
+                .orElseThrow(() -> new NotFoundException("TodoItem not found: " + id));
         if (text != null) item.setText(text);
         if (completed != null) item.setCompleted(completed);
         return todoItemRepository.save(item);
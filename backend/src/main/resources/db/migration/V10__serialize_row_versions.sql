@@ -0,0 +1,24 @@
+CREATE OR REPLACE FUNCTION set_row_version() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('row_version_seq'));
+    NEW.row_version := nextval('row_version_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION record_tombstone() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('row_version_seq'));
+    INSERT INTO sync_tombstones (table_name, row_id) VALUES (TG_TABLE_NAME, OLD.id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE INDEX idx_sync_tombstones_deleted_at ON sync_tombstones (deleted_at);
+
+CREATE TABLE sync_state (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    pruned_through BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO sync_state (id, pruned_through) VALUES (1, 0);
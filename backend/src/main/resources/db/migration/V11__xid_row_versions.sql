@@ -0,0 +1,45 @@
+CREATE FUNCTION next_row_version() RETURNS BIGINT AS $$
+DECLARE
+    counter BIGINT := COALESCE(NULLIF(current_setting('sync.row_counter', true), ''), '0')::BIGINT + 1;
+BEGIN
+    IF counter >= 16777216 THEN
+        RAISE EXCEPTION 'Too many synced row writes in one transaction';
+    END IF;
+    PERFORM set_config('sync.row_counter', counter::TEXT, true);
+    RETURN (pg_current_xact_id()::TEXT::BIGINT << 24) | counter;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION row_version_watermark() RETURNS BIGINT AS $$
+    SELECT pg_snapshot_xmin(pg_current_snapshot())::TEXT::BIGINT << 24;
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION set_row_version() RETURNS trigger AS $$
+BEGIN
+    NEW.row_version := next_row_version();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION record_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (row_version, table_name, row_id) VALUES (next_row_version(), TG_TABLE_NAME, OLD.id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE sync_tombstones ALTER COLUMN row_version SET DEFAULT next_row_version();
+
+DO $$
+DECLARE
+    synced TEXT;
+BEGIN
+    IF (SELECT last_value FROM row_version_seq) >= pg_current_xact_id()::TEXT::BIGINT << 24 THEN
+        FOREACH synced IN ARRAY ARRAY['tags', 'tasks', 'sessions', 'scheduled_sessions', 'deadlines', 'day_note', 'todo_item']
+        LOOP
+            EXECUTE format('UPDATE %I SET row_version = next_row_version()', synced);
+        END LOOP;
+        UPDATE sync_tombstones SET row_version = next_row_version();
+        UPDATE sync_state SET pruned_through = (SELECT last_value + 1 FROM row_version_seq);
+    END IF;
+END $$;
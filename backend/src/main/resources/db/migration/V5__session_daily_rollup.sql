@@ -0,0 +1,16 @@
+CREATE TABLE session_daily_rollup (
+    date DATE NOT NULL,
+    tag_id BIGINT NOT NULL REFERENCES tags(id) ON DELETE CASCADE,
+    task_id BIGINT NOT NULL REFERENCES tasks(id) ON DELETE CASCADE,
+    total_minutes BIGINT NOT NULL DEFAULT 0,
+    session_count INTEGER NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (date, tag_id, task_id)
+);
+
+INSERT INTO session_daily_rollup (date, tag_id, task_id, total_minutes, session_count, rating_sum)
+SELECT CAST(s.start_date AS DATE), t.tag_id, s.task_id,
+       SUM(s.total_minutes), COUNT(*), COALESCE(SUM(s.rating), 0)
+FROM sessions s
+JOIN tasks t ON t.id = s.task_id
+GROUP BY CAST(s.start_date AS DATE), t.tag_id, s.task_id;
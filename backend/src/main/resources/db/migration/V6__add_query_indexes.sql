@@ -0,0 +1,16 @@
+CREATE INDEX idx_sessions_start_date_id ON sessions (start_date, id);
+CREATE INDEX idx_sessions_task_start_date ON sessions (task_id, start_date, id);
+
+CREATE INDEX idx_scheduled_sessions_start_date ON scheduled_sessions (start_date);
+CREATE INDEX idx_scheduled_sessions_task ON scheduled_sessions (task_id);
+
+CREATE INDEX idx_deadlines_due_date ON deadlines (due_date);
+CREATE INDEX idx_deadlines_task ON deadlines (task_id);
+
+CREATE INDEX idx_todo_item_date_id ON todo_item (date, id);
+
+CREATE INDEX idx_tasks_tag_name ON tasks (tag_id, name);
+
+CREATE INDEX idx_session_daily_rollup_task ON session_daily_rollup (task_id);
+CREATE INDEX idx_session_daily_rollup_tag_task_date ON session_daily_rollup (tag_id, task_id, date)
+    INCLUDE (total_minutes);
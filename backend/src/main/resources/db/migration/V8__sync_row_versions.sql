@@ -0,0 +1,39 @@
+CREATE SEQUENCE row_version_seq;
+
+CREATE TABLE sync_tombstones (
+    row_version BIGINT PRIMARY KEY DEFAULT nextval('row_version_seq'),
+    table_name VARCHAR(64) NOT NULL,
+    row_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE FUNCTION set_row_version() RETURNS trigger AS $$
+BEGIN
+    NEW.row_version := nextval('row_version_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION record_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (table_name, row_id) VALUES (TG_TABLE_NAME, OLD.id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    synced TEXT;
+BEGIN
+    FOREACH synced IN ARRAY ARRAY['tags', 'tasks', 'sessions', 'scheduled_sessions', 'deadlines', 'day_note', 'todo_item']
+    LOOP
+        EXECUTE format('ALTER TABLE %I ADD COLUMN row_version BIGINT', synced);
+        EXECUTE format('UPDATE %I SET row_version = nextval(''row_version_seq'')', synced);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN row_version SET NOT NULL', synced);
+        EXECUTE format('CREATE INDEX idx_%s_row_version ON %I (row_version)', synced, synced);
+        EXECUTE format('CREATE TRIGGER trg_%s_row_version BEFORE INSERT OR UPDATE ON %I '
+                       'FOR EACH ROW EXECUTE FUNCTION set_row_version()', synced, synced);
+        EXECUTE format('CREATE TRIGGER trg_%s_tombstone AFTER DELETE ON %I '
+                       'FOR EACH ROW EXECUTE FUNCTION record_tombstone()', synced, synced);
+    END LOOP;
+END $$;
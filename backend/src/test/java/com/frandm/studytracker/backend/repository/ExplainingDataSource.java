@@ -0,0 +1,97 @@
+package com.frandm.studytracker.backend.repository;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+class ExplainingDataSource extends DelegatingDataSource {
+
+    record Plan(String sql, String plan) {}
+
+    private record Binding(Method setter, Object[] args) {}
+
+    private final List<Plan> plans = new ArrayList<>();
+
+    ExplainingDataSource(DataSource target) {
+        super(target);
+    }
+
+    synchronized List<Plan> drain() {
+        List<Plan> drained = new ArrayList<>(plans);
+        plans.clear();
+        return drained;
+    }
+
+    private synchronized void record(Plan plan) {
+        plans.add(plan);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                        return wrap(connection, statement, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private PreparedStatement wrap(Connection connection, PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args));
+            } else if (method.getName().equals("clearParameters")) {
+                bindings.clear();
+            } else if (method.getName().equals("executeQuery") && sql.strip().toLowerCase().startsWith("select")) {
+                record(new Plan(sql, explain(connection, sql, bindings)));
+            }
+            return invoke(statement, method, args);
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    private static String explain(Connection connection, String sql, List<Binding> bindings) throws Exception {
+        List<String> lines = new ArrayList<>();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Binding binding : bindings) {
+                binding.setter().invoke(explain, binding.args());
+            }
+            try (ResultSet rs = explain.executeQuery()) {
+                while (rs.next()) {
+                    lines.add(rs.getString(1));
+                }
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.frandm.studytracker.backend.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryIndexPlanTest {
+
+    @TestConfiguration
+    static class Database {
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.start();
+        }
+
+        @Bean
+        ExplainingDataSource dataSource(EmbeddedPostgres postgres) {
+            return new ExplainingDataSource(postgres.getPostgresDatabase());
+        }
+    }
+
+    @Autowired
+    private ExplainingDataSource dataSource;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private ScheduledSessionRepository scheduledSessionRepository;
+
+    @Autowired
+    private DeadlineRepository deadlineRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeAll
+    static void seed(@Autowired EmbeddedPostgres postgres) throws Exception {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO tags (name, color) " +
+                    "SELECT 'tag-' || g, '#000000' FROM generate_series(1, 20) g");
+            statement.execute("INSERT INTO tasks (tag_id, name) " +
+                    "SELECT t.id, 'task-' || g FROM tags t, generate_series(1, 25) g");
+            statement.execute("INSERT INTO sessions (task_id, title, total_minutes, rating, start_date, end_date) " +
+                    "SELECT 1 + (g % 500), 'session', 30, 3, " +
+                    "TIMESTAMP '2020-01-01' + g * INTERVAL '1 hour', " +
+                    "TIMESTAMP '2020-01-01' + g * INTERVAL '1 hour' + INTERVAL '30 minutes' " +
+                    "FROM generate_series(1, 50000) g");
+            statement.execute("INSERT INTO scheduled_sessions (task_id, title, start_date, end_date) " +
+                    "SELECT 1 + (g % 500), 'scheduled', " +
+                    "TIMESTAMP '2020-01-01' + g * INTERVAL '1 hour', " +
+                    "TIMESTAMP '2020-01-01' + g * INTERVAL '1 hour' + INTERVAL '30 minutes' " +
+                    "FROM generate_series(1, 20000) g");
+            statement.execute("INSERT INTO deadlines (task_id, title, urgency, due_date) " +
+                    "SELECT 1 + (g % 500), 'deadline', 'Medium', TIMESTAMP '2020-01-01' + g * INTERVAL '1 hour' " +
+                    "FROM generate_series(1, 20000) g");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @BeforeEach
+    void clearPlans() {
+        dataSource.drain();
+    }
+
+    @Test
+    void findFilteredWalksStartDateIndex() {
+        sessionRepository.findFiltered(null, null, PageRequest.of(0, 20));
+        assertThat(planOf("order by")).contains("idx_sessions_start_date_id");
+    }
+
+    @Test
+    void findFilteredByTaskUsesTaskStartDateIndex() {
+        sessionRepository.findFiltered("tag-3", "task-7", PageRequest.of(0, 20));
+        assertThat(planOf("order by")).contains("idx_sessions_task_start_date");
+    }
+
+    @Test
+    void findFirstSliceWalksStartDateIndex() {
+        sessionRepository.findFirstSlice(null, null, PageRequest.of(0, 50));
+        assertThat(planOf("order by")).contains("idx_sessions_start_date_id");
+    }
+
+    @Test
+    void findSliceAfterWalksStartDateIndex() {
+        sessionRepository.findSliceAfter(null, null, LocalDateTime.of(2023, 6, 1, 12, 0), 30000L, PageRequest.of(0, 50));
+        assertThat(planOf("order by")).contains("idx_sessions_start_date_id");
+    }
+
+    @Test
+    void findSliceAfterByTaskUsesTaskStartDateIndex() {
+        sessionRepository.findSliceAfter("tag-3", "task-7", LocalDateTime.of(2023, 6, 1, 12, 0), 30000L,
+                PageRequest.of(0, 50));
+        assertThat(planOf("order by")).contains("idx_sessions_task_start_date");
+    }
+
+    @Test
+    void sessionFindByDateRangeUsesStartDateIndex() {
+        sessionRepository.findByDateRange(LocalDateTime.of(2022, 1, 3, 0, 0), LocalDateTime.of(2022, 1, 9, 23, 59, 59));
+        assertThat(planOf("start_date")).contains("idx_sessions_start_date_id");
+    }
+
+    @Test
+    void scheduledFindByDateRangeUsesStartDateIndex() {
+        scheduledSessionRepository.findByDateRange(
+                LocalDateTime.of(2021, 1, 4, 0, 0), LocalDateTime.of(2021, 1, 10, 23, 59, 59));
+        assertThat(planOf("start_date")).contains("idx_scheduled_sessions_start_date");
+    }
+
+    @Test
+    void deadlineFindByDateRangeUsesDueDateIndex() {
+        deadlineRepository.findByDateRange(LocalDateTime.of(2021, 1, 4, 0, 0), LocalDateTime.of(2021, 1, 10, 23, 59, 59));
+        assertThat(planOf("due_date")).contains("idx_deadlines_due_date");
+    }
+
+    @Test
+    void findByTagIdAndNameUsesTagNameIndex() {
+        taskRepository.findByTag_IdAndName(5L, "task-12");
+        assertThat(planOf("from tasks")).contains("idx_tasks_tag_name");
+    }
+
+    private String planOf(String fragment) {
+        List<ExplainingDataSource.Plan> plans = dataSource.drain();
+        return plans.stream()
+                .filter(plan -> plan.sql().toLowerCase().contains(fragment))
+                .findFirst()
+                .map(ExplainingDataSource.Plan::plan)
+                .orElseThrow(() -> new AssertionError("No query containing '" + fragment + "' in " + plans));
+    }
+}
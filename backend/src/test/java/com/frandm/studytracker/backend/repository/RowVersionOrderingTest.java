@@ -0,0 +1,123 @@
+package com.frandm.studytracker.backend.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowVersionOrderingTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void concurrentWritersDoNotWaitForEachOther() throws Exception {
+        try (Connection first = dataSource.getConnection()) {
+            first.setAutoCommit(false);
+            long firstVersion = insertTag(first, "first");
+
+            CompletableFuture<Long> second = CompletableFuture.supplyAsync(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    return insertTag(connection, "second");
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            long secondVersion = second.get(10, TimeUnit.SECONDS);
+            assertThat(secondVersion).isGreaterThan(firstVersion);
+            assertThat(watermark()).isLessThanOrEqualTo(firstVersion);
+
+            first.commit();
+            assertThat(watermark()).isGreaterThan(secondVersion);
+        }
+    }
+
+    @Test
+    void deletesDoNotWaitForOpenWriters() throws Exception {
+        try (Connection setup = dataSource.getConnection()) {
+            insertTag(setup, "doomed");
+        }
+        try (Connection first = dataSource.getConnection()) {
+            first.setAutoCommit(false);
+            long holderVersion = insertTag(first, "holder");
+
+            CompletableFuture<Void> delete = CompletableFuture.runAsync(() -> {
+                try (Connection connection = dataSource.getConnection();
+                     Statement statement = connection.createStatement()) {
+                    statement.execute("DELETE FROM tags WHERE name = 'doomed'");
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            delete.get(10, TimeUnit.SECONDS);
+            long tombstoneVersion = queryLong("SELECT MAX(row_version) FROM sync_tombstones");
+            assertThat(tombstoneVersion).isGreaterThan(holderVersion);
+            assertThat(watermark()).isLessThanOrEqualTo(holderVersion);
+
+            first.commit();
+            assertThat(watermark()).isGreaterThan(tombstoneVersion);
+        }
+    }
+
+    @Test
+    void rowsWrittenInOneTransactionGetDistinctVersions() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            long a = insertTag(connection, "batch-a");
+            long b = insertTag(connection, "batch-b");
+            connection.commit();
+            assertThat(b).isEqualTo(a + 1);
+        }
+    }
+
+    private static long insertTag(Connection connection, String name) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "INSERT INTO tags (name, color) VALUES ('" + name + "', '#000000') RETURNING row_version")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long watermark() throws Exception {
+        return queryLong("SELECT row_version_watermark()");
+    }
+
+    private static long queryLong(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
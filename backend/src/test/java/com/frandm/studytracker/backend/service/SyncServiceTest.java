@@ -0,0 +1,100 @@
+package com.frandm.studytracker.backend.service;
+
+import com.frandm.studytracker.backend.model.Tag;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SyncService.class)
+class SyncServiceTest {
+
+    @TestConfiguration
+    static class Database {
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.start();
+        }
+
+        @Bean
+        DataSource dataSource(EmbeddedPostgres postgres) {
+            return postgres.getPostgresDatabase();
+        }
+    }
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pagingThroughAResetTerminatesWithEveryLiveRow() throws Exception {
+        Set<Long> live = new HashSet<>();
+        long staleCursor;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (int i = 0; i < 7; i++) {
+                live.add(queryLong(statement, "INSERT INTO tags (name, color, is_archived, is_favorite) " +
+                        "VALUES ('reset-" + i + "', '#000000', false, false) RETURNING id"));
+            }
+            staleCursor = queryLong(statement, "SELECT MIN(row_version) FROM tags");
+            statement.execute("INSERT INTO tags (name, color, is_archived, is_favorite) VALUES " +
+                    "('gone-1', '#000000', false, false), ('gone-2', '#000000', false, false)");
+            statement.execute("DELETE FROM tags WHERE name LIKE 'gone-%'");
+            long pruned = queryLong(statement, "SELECT MAX(row_version) FROM sync_tombstones");
+            statement.execute("UPDATE sync_state SET pruned_through = " + pruned);
+            statement.execute("DELETE FROM sync_tombstones WHERE row_version <= " + pruned);
+        }
+
+        long since = staleCursor;
+        long knownPrunedThrough = 0;
+        Set<Long> received = new HashSet<>();
+        List<Boolean> resets = new ArrayList<>();
+        boolean hasMore = true;
+        for (int calls = 0; hasMore; calls++) {
+            assertThat(calls).as("sync calls").isLessThan(20);
+            Map<String, Object> changes = syncService.changesSince(since, knownPrunedThrough, List.of("tags"), 2);
+            resets.add(Boolean.TRUE.equals(changes.get("reset")));
+            for (Tag tag : (List<Tag>) changes.get("tags")) {
+                received.add(tag.getId());
+            }
+            since = (Long) changes.get("version");
+            knownPrunedThrough = (Long) changes.get("prunedThrough");
+            hasMore = (Boolean) changes.get("hasMore");
+        }
+
+        assertThat(resets.getFirst()).isTrue();
+        assertThat(resets.subList(1, resets.size())).doesNotContain(true);
+        assertThat(received).containsAll(live);
+    }
+
+    private static long queryLong(Statement statement, String sql) throws Exception {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -62,6 +62,9 @@ public class App extends Application {
                 );
                 event.consume();
             } else {
+                if (controller != null) {
+                    controller.flushPendingWrites();
+                }
                 Platform.exit();
                 System.exit(0);
             }
@@ -9,15 +9,22 @@ import java.net.URI;
 import java.net.ConnectException;
 import java.net.UnknownHostException;
 import java.net.http.HttpClient;
-import java.net.http.HttpConnectTimeoutException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.frandm.studytracker.core.NotificationManager;
 import com.frandm.studytracker.core.TagEventBus;
@@ -28,16 +35,40 @@ import java.util.Random;
 public class ApiClient {
 
     private static volatile String baseUrl = ConfigManager.resolveApiUrl();
-    private static final HttpClient http = HttpClient.newHttpClient();
+    private static final java.time.Duration CONNECT_TIMEOUT = java.time.Duration.ofSeconds(5);
+    private static final java.time.Duration REQUEST_TIMEOUT = java.time.Duration.ofSeconds(20);
+    private static final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private static final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .executor(executor)
+            .build();
     public static final DateTimeFormatter API_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final ObjectMapper mapper = new ObjectMapper()
             .registerModule(new JavaTimeModule());
+    private static final TypeReference<List<Map<String, Object>>> LIST_TYPE = new TypeReference<>() {};
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final TypeReference<Map<String, Integer>> COUNTS_TYPE = new TypeReference<>() {};
+    private static final TypeReference<Map<String, Map<String, Object>>> TAG_TOTALS_TYPE = new TypeReference<>() {};
 
-    private static volatile List<Map<String, Object>> cachedTags = null;
-    private static volatile List<Map<String, Object>> cachedAllTags = null;
-    private static final Map<String, List<Map<String, Object>>> cachedTasksByTag = new java.util.concurrent.ConcurrentHashMap<>();
-    private static volatile long lastCacheInvalidation = 0;
     private static final long CACHE_TTL_MS = 30_000;
+    private static final long CACHE_REFRESH_AFTER_MS = 20_000;
+    private static final String TAGS_PATH = "/tags";
+    private static final String ALL_TAGS_PATH = "/tags/all";
+    private static final String TASKS_BY_TAG_PATH = "/tasks?tag=";
+    private static final String CATALOG_PATH = "/catalog";
+    private static final SingleFlightCache<String, List<Map<String, Object>>> catalogCache =
+            new SingleFlightCache<>(path -> readAsync(path, LIST_TYPE), CACHE_TTL_MS, CACHE_REFRESH_AFTER_MS);
+    private static final int VALIDATOR_CACHE_SIZE = 64;
+    private static final Map<String, CachedResponse> validatorCache = java.util.Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > VALIDATOR_CACHE_SIZE;
+                }
+            });
+
+    private record CachedResponse(String etag, String body) {}
 
     private static String normalizeBaseUrl(String value) {
         if (value == null) {
@@ -61,6 +92,25 @@ public class ApiClient {
         return trimmed;
     }
 
+    @FunctionalInterface
+    public interface ApiCall {
+        void run() throws Exception;
+    }
+
+    public static Executor executor() {
+        return executor;
+    }
+
+    public static CompletableFuture<Void> runAsync(ApiCall call) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                call.run();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
     public static String getBaseUrl() {
         return baseUrl;
     }
@@ -72,17 +122,19 @@ public class ApiClient {
     public static void setBaseUrl(String newBaseUrl) {
         baseUrl = normalizeBaseUrl(newBaseUrl);
         invalidateTagsCache();
+        nudgeOutbox();
     }
 
     public static boolean testConnection(String candidateBaseUrl) {
         try {
             String normalized = normalizeBaseUrl(candidateBaseUrl);
-            var req = HttpRequest.newBuilder()
-                    .uri(URI.create(normalized + "/tags"))
-                    .GET()
-                    .build();
-            HttpResponse<String> response = http.send(req, HttpResponse.BodyHandlers.ofString());
-            return response.statusCode() >= 200 && response.statusCode()<300;
+            var req = request(normalized + "/tags").GET().build();
+            HttpResponse<Void> response = await(http.sendAsync(req, HttpResponse.BodyHandlers.discarding()));
+            boolean reachable = response.statusCode() >= 200 && response.statusCode()<300;
+            if (reachable) {
+                nudgeOutbox();
+            }
+            return reachable;
         } catch (Exception e) {
             return false;
         }
@@ -94,7 +146,7 @@ public class ApiClient {
             if (current instanceof IllegalArgumentException
                     || current instanceof ConnectException
                     || current instanceof UnknownHostException
-                    || current instanceof HttpConnectTimeoutException
+                    || current instanceof HttpTimeoutException
                     || current instanceof java.nio.channels.ClosedChannelException) {
                 return true;
             }
@@ -103,6 +155,14 @@ public class ApiClient {
         return false;
     }
 
+    public static Exception unwrap(Throwable error) {
+        Throwable current = error;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current instanceof Exception exception ? exception : new RuntimeException(current);
+    }
+
     public static boolean isLikelyWrongBackendUrl(Throwable error) {
         if (error == null || error.getMessage() == null) {
             return false;
@@ -126,93 +186,194 @@ public class ApiClient {
     }
 
     public static void invalidateTagsCache() {
-        cachedTags = null;
-        cachedAllTags = null;
-        cachedTasksByTag.clear();
-        lastCacheInvalidation = System.currentTimeMillis();
+        catalogCache.invalidateAll();
     }
 
     public static void invalidateTasksCache(String tagName) {
-        cachedTasksByTag.remove(tagName);
+        catalogCache.invalidate(TASKS_BY_TAG_PATH + tagName);
+        catalogCache.invalidate(CATALOG_PATH);
     }
 
-    private static boolean isCacheExpired() {
-        return System.currentTimeMillis() - lastCacheInvalidation > CACHE_TTL_MS;
+    private static CompletableFuture<String> getAsync(String path) {
+        String url = getBaseUrl() + path;
+        CachedResponse cached = validatorCache.get(url);
+        var builder = request(url).GET();
+        if (cached != null) {
+            builder.header("If-None-Match", cached.etag());
+        }
+        return http.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response.statusCode() == 304 && cached != null) {
+                return cached.body();
+            }
+            if (response.statusCode() >= 400) {
+                throw new RuntimeException("GET " + path + " failed: HTTP " + response.statusCode() + " - " + response.body());
+            }
+            response.headers().firstValue("ETag").ifPresentOrElse(
+                    etag -> validatorCache.put(url, new CachedResponse(etag, response.body())),
+                    () -> validatorCache.remove(url));
+            return response.body();
+        });
     }
 
-    private static String get(String path) throws Exception {
-        var req = HttpRequest.newBuilder()
-                .uri(URI.create(getBaseUrl() + path))
-                .GET()
-                .build();
-        HttpResponse<String> response = http.send(req, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() >= 400) {
-            throw new RuntimeException("GET " + path + " failed: HTTP " + response.statusCode() + " - " + response.body());
+    private static CompletableFuture<String> sendJsonAsync(String method, String path, Object body) {
+        HttpRequest req;
+        try {
+            req = request(getBaseUrl() + path)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
         }
-        return response.body();
+        return http.sendAsync(req, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response.statusCode() >= 400) {
+                throw new RuntimeException(method + " " + path + " failed: HTTP " + response.statusCode() + " - " + response.body());
+            }
+            return response.body();
+        });
     }
 
-    private static String post(String path, Object body) throws Exception {
-        var req = HttpRequest.newBuilder()
-                .uri(URI.create(getBaseUrl() + path))
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
-                .build();
-        HttpResponse<String> response = http.send(req, HttpResponse.BodyHandlers.ofString());
-        if (response.statusCode() >= 400) {
-            throw new RuntimeException("POST " + path + " failed: HTTP " + response.statusCode() + " - " + response.body());
+    private static CompletableFuture<Void> deleteAsync(String path) {
+        var req = request(getBaseUrl() + path).DELETE().build();
+        return http.sendAsync(req, HttpResponse.BodyHandlers.discarding()).thenApply(_ -> null);
+    }
+
+    static CompletableFuture<HttpResponse<String>> deliverAsync(String targetBaseUrl, String method, String path,
+                                                                String json, String idempotencyKey) {
+        var builder = request(targetBaseUrl + path).header("Idempotency-Key", idempotencyKey);
+        if (json != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
         }
-        return response.body();
+        return http.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString());
     }
 
-    private static String put(String path, Object body) throws Exception {
-        var req = HttpRequest.newBuilder()
-                .uri(URI.create(getBaseUrl() + path))
-                .header("Content-Type", "application/json")
-                .PUT(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
-                .build();
-        HttpResponse<String> response = http.send(req, HttpResponse.BodyHandlers.ofString());
-        if (response.statusCode() >= 400) {
-            throw new RuntimeException("PUT " + path + " failed: HTTP " + response.statusCode() + " - " + response.body());
+    static boolean isRetryableStatus(int status) {
+        return status == 408 || status == 409 || status == 425 || status == 429
+                || status == 502 || status == 503 || status == 504;
+    }
+
+    static void onOutboxFlushed() {
+        TagEventBus.getInstance().publish(TagEventBus.Type.UPDATED, null, null);
+    }
+
+    private static void nudgeOutbox() {
+        try {
+            Outbox.getInstance().nudge();
+        } catch (RuntimeException e) {
+            Logger.error("Error starting outbox", e);
         }
-        return response.body();
     }
 
-    private static String patch(String path, Object body) throws Exception {
-        var req = HttpRequest.newBuilder()
-                .uri(URI.create(getBaseUrl() + path))
-                .header("Content-Type", "application/json")
-                .method("PATCH", HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
-                .build();
-        HttpResponse<String> response = http.send(req, HttpResponse.BodyHandlers.ofString());
-        if (response.statusCode() >= 400) {
-            throw new RuntimeException("PATCH " + path + " failed: HTTP " + response.statusCode() + " - " + response.body());
+    private static CompletableFuture<Void> enqueueAsync(String method, String path, Object body) {
+        String json;
+        try {
+            json = body != null ? mapper.writeValueAsString(body) : null;
+            return Outbox.getInstance().enqueue(getBaseUrl(), method, path, json, UUID.randomUUID().toString());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static CompletableFuture<Void> sendDurableAsync(String method, String path, Object body) {
+        String targetBaseUrl = getBaseUrl();
+        String json;
+        Outbox outbox;
+        try {
+            json = body != null ? mapper.writeValueAsString(body) : null;
+            outbox = Outbox.getInstance();
+            if (outbox.hasPending(targetBaseUrl)) {
+                return outbox.enqueue(targetBaseUrl, method, path, json, UUID.randomUUID().toString());
+            }
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
         }
-        return response.body();
+
+        String idempotencyKey = UUID.randomUUID().toString();
+        return deliverAsync(targetBaseUrl, method, path, json, idempotencyKey).handle((response, error) -> {
+            if (error != null) {
+                if (isConnectionIssue(error)) {
+                    return outbox.enqueue(targetBaseUrl, method, path, json, idempotencyKey);
+                }
+                return CompletableFuture.<Void>failedFuture(error);
+            }
+            if (isRetryableStatus(response.statusCode())) {
+                return outbox.enqueue(targetBaseUrl, method, path, json, idempotencyKey);
+            }
+            if (response.statusCode() >= 400) {
+                return CompletableFuture.<Void>failedFuture(new RuntimeException(
+                        method + " " + path + " failed: HTTP " + response.statusCode() + " - " + response.body()));
+            }
+            return CompletableFuture.<Void>completedFuture(null);
+        }).thenCompose(result -> result);
+    }
+
+    private static HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(REQUEST_TIMEOUT);
+    }
+
+    private static <T> CompletableFuture<T> readAsync(String path, TypeReference<T> type) {
+        return getAsync(path).thenApply(json -> readJson(json, type));
+    }
+
+    private static <T> T readJson(String json, TypeReference<T> type) {
+        try {
+            return mapper.readValue(json, type);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String get(String path) throws Exception {
+        return await(getAsync(path));
+    }
+
+    private static String post(String path, Object body) throws Exception {
+        return await(sendJsonAsync("POST", path, body));
+    }
+
+    private static String put(String path, Object body) throws Exception {
+        return await(sendJsonAsync("PUT", path, body));
+    }
+
+    private static String patch(String path, Object body) throws Exception {
+        return await(sendJsonAsync("PATCH", path, body));
     }
 
     private static void delete(String path) throws Exception {
-        var req = HttpRequest.newBuilder()
-                .uri(URI.create(getBaseUrl() + path))
-                .DELETE()
-                .build();
-        http.send(req, HttpResponse.BodyHandlers.ofString());
+        await(deleteAsync(path));
     }
 
     // --- Tags ---
     public static List<Map<String, Object>> getTags() throws Exception {
-        if (cachedTags != null && !isCacheExpired()) return cachedTags;
-        List<Map<String, Object>> result = mapper.readValue(get("/tags"), new TypeReference<>() {});
-        cachedTags = result;
-        return result;
+        return await(getTagsAsync());
+    }
+
+    public static CompletableFuture<List<Map<String, Object>>> getTagsAsync() {
+        return catalogCache.get(TAGS_PATH);
     }
 
     public static List<Map<String, Object>> getAllTags() throws Exception {
-        if (cachedAllTags != null && !isCacheExpired()) return cachedAllTags;
-        List<Map<String, Object>> result = mapper.readValue(get("/tags/all"), new TypeReference<>() {});
-        cachedAllTags = result;
-        return result;
+        return await(getAllTagsAsync());
+    }
+
+    public static CompletableFuture<List<Map<String, Object>>> getAllTagsAsync() {
+        return catalogCache.get(ALL_TAGS_PATH);
     }
 
 
@@ -244,17 +405,30 @@ public class ApiClient {
         NotificationManager.show("Success", "Tag deleted" , NotificationManager.NotificationType.SUCCESS);
     }
 
+    // --- Catalog ---
+    public static List<Map<String, Object>> getCatalog() throws Exception {
+        return await(getCatalogAsync());
+    }
+
+    public static CompletableFuture<List<Map<String, Object>>> getCatalogAsync() {
+        return catalogCache.get(CATALOG_PATH);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, Object>> catalogTasks(Map<String, Object> catalogTag) {
+        return catalogTag.get("tasks") instanceof List<?> tasks ? (List<Map<String, Object>>) tasks : List.of();
+    }
+
     // --- Tasks ---
     public static List<Map<String, Object>> getTasks(String tag) throws Exception {
+        return await(getTasksAsync(tag));
+    }
+
+    public static CompletableFuture<List<Map<String, Object>>> getTasksAsync(String tag) {
         if (tag != null && !tag.isEmpty()) {
-            if (cachedTasksByTag.containsKey(tag) && !isCacheExpired()) {
-                return cachedTasksByTag.get(tag);
-            }
-            List<Map<String, Object>> result = mapper.readValue(get("/tasks?tag=" + tag), new TypeReference<>() {});
-            cachedTasksByTag.put(tag, result);
-            return result;
+            return catalogCache.get(TASKS_BY_TAG_PATH + tag);
         }
-        return mapper.readValue(get("/tasks"), new TypeReference<>() {});
+        return readAsync("/tasks", LIST_TYPE);
     }
 
 
@@ -269,17 +443,26 @@ public class ApiClient {
         if (tagName != null && !tagName.isBlank()) {
             invalidateTasksCache(tagName);
         } else {
-            cachedTasksByTag.clear();
+            catalogCache.invalidateIf(path -> path.startsWith(TASKS_BY_TAG_PATH) || path.equals(CATALOG_PATH));
         }
         NotificationManager.show("Success", "Task deleted", NotificationManager.NotificationType.SUCCESS);
     }
 
     // --- Sessions ---
-    public static List<Map<String, Object>> getSessions(String tag, String task, int page) throws Exception {
-        String url = "/sessions?page=" + page;
+    public static List<Map<String, Object>> getSessions(String tag, String task, String after, int limit) throws Exception {
+        return await(getSessionsAsync(tag, task, after, limit));
+    }
+
+    public static CompletableFuture<List<Map<String, Object>>> getSessionsAsync(String tag, String task, String after, int limit) {
+        String url = "/sessions?limit=" + limit;
+        if (after != null && !after.isEmpty()) url += "&after=" + encodeQueryValue(after);
         if (tag != null && !tag.isEmpty()) url += "&tag=" + tag;
         if (task != null && !task.isEmpty()) url += "&task=" + task;
-        return mapper.readValue(get(url), new TypeReference<>() {});
+        return readAsync(url, LIST_TYPE);
+    }
+
+    public static String sessionCursor(Map<String, Object> session) {
+        return session.get("startDate") + "," + session.get("id");
     }
 
     public static List<Map<String, Object>> getAllSessions() throws Exception {
@@ -296,16 +479,27 @@ public class ApiClient {
                                    String title, String description,
                                    int totalMinutes, String startDate,
                                    String endDate, int rating) throws Exception {
-        post("/sessions", Map.of(
+        await(saveSessionAsync(tagName, tagColor, taskName, title, description, totalMinutes, startDate, endDate, rating));
+    }
+
+    public static CompletableFuture<Void> saveSessionAsync(String tagName, String tagColor, String taskName,
+                                                           String title, String description,
+                                                           int totalMinutes, String startDate,
+                                                           String endDate, int rating) {
+        return enqueueAsync("POST", "/sessions", Map.of(
                 "tagName", tagName, "tagColor", tagColor, "taskName", taskName,
                 "title", title, "description", description,
                 "totalMinutes", totalMinutes, "startDate", startDate,
                 "endDate", endDate, "rating", rating
         ));
-        TagEventBus.getInstance().publish(TagEventBus.Type.UPDATED, null, tagName);
     }
 
 
+    public static int saveSessionsBatch(List<Map<String, Object>> sessions) throws Exception {
+        Map<String, Object> result = mapper.readValue(post("/sessions/batch", sessions), new TypeReference<>() {});
+        return result.get("imported") instanceof Number number ? number.intValue() : 0;
+    }
+
     public static void patchSession(long id, String tagName, String tagColor, String taskName,
                                     String title, String description, Integer rating) throws Exception {
         Map<String, Object> body = new LinkedHashMap<>();
@@ -324,43 +518,77 @@ public class ApiClient {
 
     // --- Scheduled sessions ---
     public static List<Map<String, Object>> getScheduledSessions(String start, String end) throws Exception {
+        return await(getScheduledSessionsAsync(start, end));
+    }
+
+    public static CompletableFuture<List<Map<String, Object>>> getScheduledSessionsAsync(String start, String end) {
         if (start != null && end != null && !start.isEmpty() && !end.isEmpty()) {
-            return mapper.readValue(get("/scheduled?start=" + encodeQueryValue(start) + "&end=" + encodeQueryValue(end)), new TypeReference<>() {});
+            return readAsync("/scheduled?start=" + encodeQueryValue(start) + "&end=" + encodeQueryValue(end), LIST_TYPE);
         }
-        return mapper.readValue(get("/scheduled"), new TypeReference<>() {});
+        return readAsync("/scheduled", LIST_TYPE);
     }
 
     public static void saveScheduledSession(String tagName, String taskName,
                                             String title, String start, String end) throws Exception {
-        post("/scheduled", Map.of(
+        await(sendDurableAsync("POST", "/scheduled", Map.of(
                 "tagName", tagName, "taskName", taskName,
                 "title", title, "startDate", start, "endDate", end
-        ));
+        )));
         NotificationManager.show("Success", "Successfully created " + title + " scheduled session", NotificationManager.NotificationType.SUCCESS);
     }
 
     public static void updateScheduledSession(long id, String tagName, String taskName,
                                               String title, String start, String end) throws Exception {
-        mapper.readValue(put("/scheduled/" + id, Map.of(
+        await(sendDurableAsync("PUT", "/scheduled/" + id, Map.of(
                 "tagName", tagName, "taskName", taskName,
                 "title", title, "startDate", start, "endDate", end
-        )), new TypeReference<>() {
-        });
+        )));
         NotificationManager.show("Success", "Successfully updated " + title + " scheduled session", NotificationManager.NotificationType.SUCCESS);
     }
 
     public static void deleteScheduledSession(long id) throws Exception {
-        delete("/scheduled/" + id);
+        await(sendDurableAsync("DELETE", "/scheduled/" + id, null));
         NotificationManager.show("Success", "Successfully deleted scheduled session", NotificationManager.NotificationType.SUCCESS);
     }
 
     // --- Stats ---
     public static Map<String, Integer> getHeatmap() throws Exception {
-        return mapper.readValue(get("/stats/heatmap"), new TypeReference<>() {});
+        return await(getHeatmapAsync());
+    }
+
+    public static CompletableFuture<Map<String, Integer>> getHeatmapAsync() {
+        return readAsync("/stats/heatmap", COUNTS_TYPE);
     }
 
     public static Map<String, Integer> getSummaryByTag(String tag) throws Exception {
-        return mapper.readValue(get("/stats/summary?tag=" + tag), new TypeReference<>() {});
+        return await(getSummaryByTagAsync(tag));
+    }
+
+    public static CompletableFuture<Map<String, Integer>> getSummaryByTagAsync(String tag) {
+        return readAsync("/stats/summary?tag=" + tag, COUNTS_TYPE);
+    }
+
+    public static Map<String, Map<String, Object>> getTagTotals(LocalDate start, LocalDate end) throws Exception {
+        return await(getTagTotalsAsync(start, end));
+    }
+
+    public static CompletableFuture<Map<String, Map<String, Object>>> getTagTotalsAsync(LocalDate start, LocalDate end) {
+        StringBuilder path = new StringBuilder("/stats/tag-totals");
+        if (start != null) path.append("?start=").append(start);
+        if (end != null) path.append(start != null ? "&" : "?").append("end=").append(end);
+        return readAsync(path.toString(), TAG_TOTALS_TYPE);
+    }
+
+    public static int tagTotalMinutes(Map<String, Object> tagTotals) {
+        return tagTotals != null && tagTotals.get("total") instanceof Number total ? total.intValue() : 0;
+    }
+
+    public static Map<String, Integer> tagTotalTasks(Map<String, Object> tagTotals) {
+        Map<String, Integer> tasks = new LinkedHashMap<>();
+        if (tagTotals != null && tagTotals.get("tasks") instanceof Map<?, ?> rows) {
+            rows.forEach((task, minutes) -> tasks.put(String.valueOf(task), minutes instanceof Number n ? n.intValue() : 0));
+        }
+        return tasks;
     }
 
     // --- Development ---
@@ -392,6 +620,7 @@ public class ApiClient {
                 return;
             }
 
+            List<Map<String, Object>> sessions = new ArrayList<>();
             for (int i = 0; i < 365; i++) {
                 if (i % 30 == 0) {
                     System.out.printf("[generateRandomPomodoros] Progreso: %d/365 días (%.0f%%)%n", i, (i / 365.0) * 100);
@@ -413,7 +642,7 @@ public class ApiClient {
                         String tagColor = (String) tagMap.get("color");
                         String taskName = (String) task.get("name");
 
-                        post("/sessions", Map.of(
+                        sessions.add(Map.of(
                                 "tagName", tagName, "tagColor", tagColor, "taskName", taskName,
                                 "title", "Test session", "description", "Generated session",
                                 "totalMinutes", duration,
@@ -427,7 +656,8 @@ public class ApiClient {
                     }
                 }
             }
-            System.out.println("[generateRandomPomodoros] Done ✓ 365/365 días (100%)");
+            int imported = saveSessionsBatch(sessions);
+            System.out.println("[generateRandomPomodoros] Done ✓ 365/365 días (100%), " + imported + " sessions");
         } catch (Exception e) {
             Logger.error(e);
         }
@@ -627,10 +857,14 @@ public class ApiClient {
 
     // --- Deadlines ---
     public static List<Map<String, Object>> getDeadlines(String start, String end) throws Exception {
+        return await(getDeadlinesAsync(start, end));
+    }
+
+    public static CompletableFuture<List<Map<String, Object>>> getDeadlinesAsync(String start, String end) {
         if (start != null && end != null && !start.isEmpty() && !end.isEmpty()) {
-            return mapper.readValue(get("/deadlines?start=" + encodeQueryValue(start) + "&end=" + encodeQueryValue(end)), new TypeReference<>() {});
+            return readAsync("/deadlines?start=" + encodeQueryValue(start) + "&end=" + encodeQueryValue(end), LIST_TYPE);
         }
-        return mapper.readValue(get("/deadlines"), new TypeReference<>() {});
+        return readAsync("/deadlines", LIST_TYPE);
     }
 
     public static void saveDeadline(String tagName, String tagColor, String taskName,
@@ -646,8 +880,7 @@ public class ApiClient {
         body.put("dueDate", dueDate);
         body.put("allDay", allDay);
         if (isCompleted != null) body.put("isCompleted", isCompleted);
-        mapper.readValue(post("/deadlines", body), new TypeReference<>() {
-        });
+        await(sendDurableAsync("POST", "/deadlines", body));
         NotificationManager.show("Success", "Successfully created " + title + " deadline", NotificationManager.NotificationType.SUCCESS);
     }
 
@@ -664,8 +897,7 @@ public class ApiClient {
         body.put("dueDate", dueDate);
         body.put("allDay", allDay);
         if (isCompleted != null) body.put("isCompleted", isCompleted);
-        mapper.readValue(put("/deadlines/" + id, body), new TypeReference<>() {
-        });
+        await(sendDurableAsync("PUT", "/deadlines/" + id, body));
         NotificationManager.show("Success", "Successfully updated " + title + " deadline", NotificationManager.NotificationType.SUCCESS);
     }
 
@@ -678,12 +910,11 @@ public class ApiClient {
         if (dueDate != null) body.put("dueDate", dueDate);
         body.put("allDay", allDay);
         if (isCompleted != null) body.put("isCompleted", isCompleted);
-        mapper.readValue(patch("/deadlines/" + id, body), new TypeReference<>() {
-        });
+        await(sendDurableAsync("PATCH", "/deadlines/" + id, body));
     }
 
     public static void deleteDeadline(long id) throws Exception {
-        delete("/deadlines/" + id);
+        await(sendDurableAsync("DELETE", "/deadlines/" + id, null));
         NotificationManager.show("Success", "Successfully deleted deadline", NotificationManager.NotificationType.SUCCESS);
     }
 
@@ -723,50 +954,17 @@ public class ApiClient {
         return mapper.readValue(get("/notes"), new TypeReference<>() {});
     }
 
-    public static String getNoteByDate(LocalDate date) {
-        try {
-            List<Map<String, Object>> notes = getNotes();
-            String dateStr = date.toString();
-            for (Map<String, Object> note : notes) {
-                if (dateStr.equals(String.valueOf(note.get("date")))) {
-                    return note.get("content") != null ? note.get("content").toString() : "";
-                }
-            }
-            return "";
-        } catch (Exception e) {
-            Logger.error("Error fetching note", e);
-            return "";
-        }
-    }
-
     public static void createNote(LocalDate date, String content) throws Exception {
-        mapper.readValue(post("/notes", Map.of("date", date.toString(), "content", content)), new TypeReference<>() {
-        });
+        await(sendDurableAsync("POST", "/notes", Map.of("date", date.toString(), "content", content)));
     }
 
 
     public static void patchNote(long id, String content) throws Exception {
-        mapper.readValue(patch("/notes/" + id, Map.of("content", content)), new TypeReference<>() {
-        });
+        await(sendDurableAsync("PATCH", "/notes/" + id, Map.of("content", content)));
     }
 
     public static void saveNote(LocalDate date, String content) throws Exception {
-        try {
-            List<Map<String, Object>> notes = getNotes();
-            String dateStr = date.toString();
-            for (Map<String, Object> note : notes) {
-                if (dateStr.equals(String.valueOf(note.get("date")))) {
-                    Object idObj = note.get("id");
-                    if (idObj instanceof Number number) {
-                        patchNote(number.longValue(), content);
-                        return;
-                    }
-                }
-            }
-            createNote(date, content);
-        } catch (Exception e) {
-            createNote(date, content);
-        }
+        await(sendDurableAsync("PUT", "/notes/by-date/" + date, Map.of("content", content)));
     }
 
     // --- Todos ---
@@ -776,8 +974,11 @@ public class ApiClient {
     }
 
     public static List<Map<String, Object>> getTodos(LocalDate date) throws Exception {
-        String path = "/todos?date=" + date;
-        return mapper.readValue(get(path), new TypeReference<>() {});
+        return await(getTodosAsync(date));
+    }
+
+    public static CompletableFuture<List<Map<String, Object>>> getTodosAsync(LocalDate date) {
+        return readAsync("/todos?date=" + date, LIST_TYPE);
     }
 
     public static Map<String, Object> createTodo(LocalDate date, String text) throws Exception {
@@ -794,15 +995,31 @@ public class ApiClient {
         Map<String, Object> body = new LinkedHashMap<>();
         if (text != null) body.put("text", text);
         if (completed != null) body.put("completed", completed);
-        patch("/todos/" + id, body);
+        await(sendDurableAsync("PATCH", "/todos/" + id, body));
     }
 
     public static void updateTodoCompleted(long id, boolean completed) throws Exception {
-        patch("/todos/" + id, Map.of("completed", completed));
+        await(sendDurableAsync("PATCH", "/todos/" + id, Map.of("completed", completed)));
     }
 
     public static void deleteTodo(long id) throws Exception {
-        delete("/todos/" + id);
+        await(sendDurableAsync("DELETE", "/todos/" + id, null));
+    }
+
+    // --- Sync ---
+
+    public static Map<String, Object> getChangesSince(long since, long prunedThrough, List<String> tables)
+            throws Exception {
+        return await(getChangesSinceAsync(since, prunedThrough, tables));
+    }
+
+    public static CompletableFuture<Map<String, Object>> getChangesSinceAsync(long since, long prunedThrough,
+                                                                              List<String> tables) {
+        String path = "/sync?since=" + since + "&prunedThrough=" + prunedThrough;
+        if (tables != null && !tables.isEmpty()) {
+            path += "&tables=" + String.join(",", tables);
+        }
+        return readAsync(path, MAP_TYPE);
     }
 
 }
@@ -0,0 +1,319 @@
+package com.frandm.studytracker.client;
+
+import com.frandm.studytracker.core.ConfigManager;
+import com.frandm.studytracker.core.Logger;
+import com.frandm.studytracker.core.NotificationManager;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class Outbox {
+
+    private static final String DB_FILE = "outbox.db";
+    private static final int BATCH_SIZE = 50;
+    private static final long MIN_BACKOFF_MS = 1_000;
+    private static final long MAX_BACKOFF_MS = 60_000;
+    private static final int WARN_AFTER_ATTEMPTS = 10;
+    private static final int MAX_HTTP_FAILURES = 10;
+    private static final int SCHEMA_VERSION = 1;
+
+    private static volatile Outbox instance;
+
+    private record Entry(long id, String baseUrl, String method, String path, String body,
+                         String idempotencyKey, int attempts, int httpFailures) {}
+
+    private final Connection connection;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object signal = new Object();
+    private boolean wakeUp = true;
+
+    private Outbox() {
+        try {
+            connection = DriverManager.getConnection("jdbc:sqlite:" + ConfigManager.getDataFile(DB_FILE).getAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=FULL");
+                statement.execute("CREATE TABLE IF NOT EXISTS outbox (" +
+                        "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+                        "base_url TEXT NOT NULL, " +
+                        "method TEXT NOT NULL, " +
+                        "path TEXT NOT NULL, " +
+                        "body TEXT, " +
+                        "idempotency_key TEXT NOT NULL UNIQUE, " +
+                        "attempts INTEGER NOT NULL DEFAULT 0, " +
+                        "created_at INTEGER NOT NULL)");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_outbox_base_url ON outbox (base_url, id)");
+                if (schemaVersion(statement) < 1) {
+                    statement.execute("ALTER TABLE outbox ADD COLUMN http_failures INTEGER NOT NULL DEFAULT 0");
+                }
+                statement.execute("CREATE TABLE IF NOT EXISTS outbox_dead_letter (" +
+                        "id INTEGER PRIMARY KEY, " +
+                        "base_url TEXT NOT NULL, " +
+                        "method TEXT NOT NULL, " +
+                        "path TEXT NOT NULL, " +
+                        "body TEXT, " +
+                        "idempotency_key TEXT NOT NULL, " +
+                        "attempts INTEGER NOT NULL, " +
+                        "status INTEGER NOT NULL, " +
+                        "response TEXT, " +
+                        "failed_at INTEGER NOT NULL)");
+                statement.execute("PRAGMA user_version=" + SCHEMA_VERSION);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not open outbox database", e);
+        }
+
+        Thread flusher = new Thread(this::runFlusher, "outbox-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    private static int schemaVersion(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    public static Outbox getInstance() {
+        if (instance == null) {
+            synchronized (Outbox.class) {
+                if (instance == null) {
+                    instance = new Outbox();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public CompletableFuture<Void> enqueue(String baseUrl, String method, String path, String body, String idempotencyKey) {
+        return CompletableFuture.runAsync(() -> {
+            insert(baseUrl, method, path, body, idempotencyKey);
+            nudge();
+        }, writer);
+    }
+
+    public synchronized boolean hasPending(String baseUrl) {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT 1 FROM outbox WHERE base_url = ? LIMIT 1")) {
+            statement.setString(1, baseUrl);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not read outbox", e);
+        }
+    }
+
+    public void nudge() {
+        synchronized (signal) {
+            wakeUp = true;
+            signal.notifyAll();
+        }
+    }
+
+    private synchronized void insert(String baseUrl, String method, String path, String body, String idempotencyKey) {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO outbox (base_url, method, path, body, idempotency_key, created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            statement.setString(1, baseUrl);
+            statement.setString(2, method);
+            statement.setString(3, path);
+            statement.setString(4, body);
+            statement.setString(5, idempotencyKey);
+            statement.setLong(6, System.currentTimeMillis());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not write to outbox", e);
+        }
+    }
+
+    private synchronized List<Entry> peek(String baseUrl, int limit) {
+        List<Entry> entries = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, base_url, method, path, body, idempotency_key, attempts, http_failures FROM outbox " +
+                        "WHERE base_url = ? ORDER BY id LIMIT ?")) {
+            statement.setString(1, baseUrl);
+            statement.setInt(2, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    entries.add(new Entry(rs.getLong(1), rs.getString(2), rs.getString(3),
+                            rs.getString(4), rs.getString(5), rs.getString(6), rs.getInt(7), rs.getInt(8)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not read outbox", e);
+        }
+        return entries;
+    }
+
+    private synchronized void remove(List<Long> ids) {
+        if (ids.isEmpty()) return;
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM outbox WHERE id = ?")) {
+            connection.setAutoCommit(false);
+            for (long id : ids) {
+                statement.setLong(1, id);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not update outbox", e);
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                Logger.error("Error restoring outbox auto-commit", e);
+            }
+        }
+    }
+
+    private synchronized void recordAttempt(long id, boolean httpFailure) {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE outbox SET attempts = attempts + 1, http_failures = http_failures + ? WHERE id = ?")) {
+            statement.setInt(1, httpFailure ? 1 : 0);
+            statement.setLong(2, id);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not update outbox", e);
+        }
+    }
+
+    private synchronized void moveToDeadLetter(Entry entry, int status, String response) {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT OR REPLACE INTO outbox_dead_letter (id, base_url, method, path, body, idempotency_key, " +
+                        "attempts, status, response, failed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             PreparedStatement delete = connection.prepareStatement("DELETE FROM outbox WHERE id = ?")) {
+            connection.setAutoCommit(false);
+            insert.setLong(1, entry.id());
+            insert.setString(2, entry.baseUrl());
+            insert.setString(3, entry.method());
+            insert.setString(4, entry.path());
+            insert.setString(5, entry.body());
+            insert.setString(6, entry.idempotencyKey());
+            insert.setInt(7, entry.attempts() + 1);
+            insert.setInt(8, status);
+            insert.setString(9, response);
+            insert.setLong(10, System.currentTimeMillis());
+            insert.executeUpdate();
+            delete.setLong(1, entry.id());
+            delete.executeUpdate();
+            connection.commit();
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not update outbox", e);
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                Logger.error("Error restoring outbox auto-commit", e);
+            }
+        }
+    }
+
+    private void runFlusher() {
+        long backoffMs = 0;
+        while (true) {
+            try {
+                synchronized (signal) {
+                    if (backoffMs > 0 && !wakeUp) {
+                        signal.wait(backoffMs + ThreadLocalRandom.current().nextLong(backoffMs / 4 + 1));
+                    } else if (backoffMs == 0) {
+                        while (!wakeUp) {
+                            signal.wait();
+                        }
+                    }
+                    wakeUp = false;
+                }
+                backoffMs = flush() ? 0 : Math.min(MAX_BACKOFF_MS, Math.max(MIN_BACKOFF_MS, backoffMs * 2));
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                Logger.error("Error flushing outbox", e);
+                backoffMs = Math.min(MAX_BACKOFF_MS, Math.max(MIN_BACKOFF_MS, backoffMs * 2));
+            }
+        }
+    }
+
+    private boolean flush() throws InterruptedException {
+        if (!ApiClient.isConfigured()) {
+            return false;
+        }
+        String baseUrl = ApiClient.getBaseUrl();
+        int delivered = 0;
+        try {
+            while (true) {
+                List<Entry> batch = peek(baseUrl, BATCH_SIZE);
+                if (batch.isEmpty()) {
+                    return true;
+                }
+                List<Long> done = new ArrayList<>();
+                try {
+                    for (Entry entry : batch) {
+                        if (!deliver(entry)) {
+                            return false;
+                        }
+                        done.add(entry.id());
+                    }
+                } finally {
+                    remove(done);
+                    delivered += done.size();
+                }
+            }
+        } finally {
+            if (delivered > 0) {
+                ApiClient.onOutboxFlushed();
+            }
+        }
+    }
+
+    private boolean deliver(Entry entry) throws InterruptedException {
+        HttpResponse<String> response;
+        try {
+            response = ApiClient.deliverAsync(entry.baseUrl(), entry.method(), entry.path(), entry.body(), entry.idempotencyKey()).get();
+        } catch (ExecutionException e) {
+            Logger.warn("Outbox delivery of " + entry.method() + " " + entry.path() + " deferred: " + e.getCause());
+            deferred(entry, false);
+            return false;
+        }
+
+        int status = response.statusCode();
+        if (ApiClient.isRetryableStatus(status) && entry.httpFailures() + 1 < MAX_HTTP_FAILURES) {
+            Logger.warn("Outbox delivery of " + entry.method() + " " + entry.path() + " deferred after HTTP " + status);
+            deferred(entry, true);
+            return false;
+        }
+        if (status >= 400) {
+            deadLetter(entry, status, response.body());
+        }
+        return true;
+    }
+
+    private void deadLetter(Entry entry, int status, String response) {
+        moveToDeadLetter(entry, status, response);
+        Logger.error("Moved outbox entry " + entry.method() + " " + entry.path() + " to the dead-letter table after HTTP "
+                + status + " - " + response + " - payload: " + entry.body());
+        NotificationManager.show("Sync error", "A saved change was rejected by the server (HTTP " + status + ")",
+                NotificationManager.NotificationType.ERROR);
+    }
+
+    private void deferred(Entry entry, boolean httpFailure) {
+        recordAttempt(entry.id(), httpFailure);
+        if (entry.attempts() + 1 == WARN_AFTER_ATTEMPTS) {
+            Logger.error("Outbox entry " + entry.method() + " " + entry.path() + " still pending after "
+                    + WARN_AFTER_ATTEMPTS + " attempts; it will keep retrying - payload: " + entry.body());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.frandm.studytracker.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+final class SingleFlightCache<K, V> {
+
+    private final class Entry {
+        final CompletableFuture<V> value;
+        final long loadedAt;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(CompletableFuture<V> value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean isUsable(long now) {
+            return !value.isCompletedExceptionally() && now - loadedAt < ttlMs;
+        }
+
+        boolean needsRefresh(long now) {
+            return value.isDone() && now - loadedAt >= refreshAfterMs;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Entry> entries = new ConcurrentHashMap<>();
+    private final Function<K, CompletableFuture<V>> loader;
+    private final long ttlMs;
+    private final long refreshAfterMs;
+
+    SingleFlightCache(Function<K, CompletableFuture<V>> loader, long ttlMs, long refreshAfterMs) {
+        this.loader = loader;
+        this.ttlMs = ttlMs;
+        this.refreshAfterMs = refreshAfterMs;
+    }
+
+    CompletableFuture<V> get(K key) {
+        long now = System.currentTimeMillis();
+        List<Entry> created = new ArrayList<>(1);
+        Entry entry = entries.compute(key, (k, current) -> {
+            if (current != null && current.isUsable(now)) {
+                return current;
+            }
+            Entry fresh = new Entry(new CompletableFuture<>(), now);
+            created.add(fresh);
+            return fresh;
+        });
+        if (created.contains(entry)) {
+            load(key, entry);
+        } else if (entry.needsRefresh(now) && entry.refreshing.compareAndSet(false, true)) {
+            refresh(key, entry);
+        }
+        return entry.value;
+    }
+
+    void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    void invalidateIf(Predicate<K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    private void load(K key, Entry entry) {
+        fetch(key).whenComplete((value, error) -> {
+            if (error != null) {
+                entries.remove(key, entry);
+                entry.value.completeExceptionally(error);
+            } else {
+                entry.value.complete(value);
+            }
+        });
+    }
+
+    private void refresh(K key, Entry entry) {
+        fetch(key).whenComplete((value, error) -> {
+            if (error != null || !entries.replace(key, entry, new Entry(CompletableFuture.completedFuture(value), System.currentTimeMillis()))) {
+                entry.refreshing.set(false);
+            }
+        });
+    }
+
+    private CompletableFuture<V> fetch(K key) {
+        try {
+            return loader.apply(key);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
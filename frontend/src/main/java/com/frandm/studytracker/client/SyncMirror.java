@@ -0,0 +1,504 @@
+package com.frandm.studytracker.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frandm.studytracker.core.ConfigManager;
+import com.frandm.studytracker.core.Logger;
+import javafx.application.Platform;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class SyncMirror {
+
+    private static final List<String> TABLES = List.of(
+            "tags", "tasks", "sessions", "scheduled_sessions", "deadlines", "day_note", "todo_item");
+    private static final String DB_FILE = "mirror.db";
+    private static final int SCHEMA_VERSION = 2;
+    private static final List<String> CACHED_TABLES = List.of("tags", "tasks");
+    private static final Map<String, String> SORT_KEYS = Map.of(
+            "sessions", "startDate",
+            "scheduled_sessions", "startDate",
+            "deadlines", "dueDate",
+            "day_note", "date",
+            "todo_item", "date");
+    private static final DateTimeFormatter SORT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {};
+
+    private static volatile SyncMirror instance;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Map<Long, Map<String, Object>>> rows = new HashMap<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Set<LocalDate>>> sessionListeners = new CopyOnWriteArrayList<>();
+    private final Set<LocalDate> changedSessionDays = new HashSet<>();
+    private boolean allSessionDaysChanged;
+    private final Object syncLock = new Object();
+    private final Connection connection;
+    private CompletableFuture<Boolean> pendingSync;
+    private String loadedBaseUrl;
+    private long version;
+    private long prunedThrough;
+
+    private SyncMirror() {
+        for (String table : CACHED_TABLES) {
+            rows.put(table, new HashMap<>());
+        }
+        try {
+            connection = DriverManager.getConnection("jdbc:sqlite:" + ConfigManager.getDataFile(DB_FILE).getAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+                if (schemaVersion(statement) != SCHEMA_VERSION) {
+                    statement.execute("DROP TABLE IF EXISTS mirror_rows");
+                    statement.execute("DROP TABLE IF EXISTS mirror_state");
+                    statement.execute("PRAGMA user_version=" + SCHEMA_VERSION);
+                }
+                statement.execute("CREATE TABLE IF NOT EXISTS mirror_rows (" +
+                        "base_url TEXT NOT NULL, " +
+                        "table_name TEXT NOT NULL, " +
+                        "id INTEGER NOT NULL, " +
+                        "sort_at TEXT, " +
+                        "data TEXT NOT NULL, " +
+                        "PRIMARY KEY (base_url, table_name, id))");
+                statement.execute("CREATE INDEX IF NOT EXISTS idx_mirror_rows_sort_at " +
+                        "ON mirror_rows (base_url, table_name, sort_at, id)");
+                statement.execute("CREATE TABLE IF NOT EXISTS mirror_state (" +
+                        "base_url TEXT PRIMARY KEY, " +
+                        "version INTEGER NOT NULL, " +
+                        "pruned_through INTEGER NOT NULL DEFAULT 0)");
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Could not open local mirror", e);
+        }
+    }
+
+    private static int schemaVersion(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    public static SyncMirror getInstance() {
+        if (instance == null) {
+            synchronized (SyncMirror.class) {
+                if (instance == null) {
+                    instance = new SyncMirror();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public void addSessionListener(Consumer<Set<LocalDate>> listener) {
+        sessionListeners.add(listener);
+    }
+
+    public boolean sync() throws Exception {
+        if (!ApiClient.isConfigured()) {
+            return false;
+        }
+        synchronized (syncLock) {
+            String baseUrl = ApiClient.getBaseUrl();
+            long since;
+            long knownPrunedThrough;
+            synchronized (this) {
+                ensureLoaded(baseUrl);
+                since = version;
+                knownPrunedThrough = prunedThrough;
+                changedSessionDays.clear();
+                allSessionDaysChanged = version == 0;
+            }
+
+            boolean changed = false;
+            boolean hasMore;
+            do {
+                Map<String, Object> changes = ApiClient.getChangesSince(since, knownPrunedThrough, TABLES);
+                synchronized (this) {
+                    if (!baseUrl.equals(loadedBaseUrl)) {
+                        return false;
+                    }
+                    changed |= apply(changes);
+                    since = version;
+                    knownPrunedThrough = prunedThrough;
+                }
+                hasMore = ApiClient.parseBooleanFlag(changes.get("hasMore"));
+            } while (hasMore);
+
+            if (changed) {
+                Set<LocalDate> sessionDays;
+                synchronized (this) {
+                    sessionDays = allSessionDaysChanged ? null : Set.copyOf(changedSessionDays);
+                }
+                for (Runnable listener : listeners) {
+                    Platform.runLater(listener);
+                }
+                for (Consumer<Set<LocalDate>> listener : sessionListeners) {
+                    Platform.runLater(() -> listener.accept(sessionDays));
+                }
+            }
+            return changed;
+        }
+    }
+
+    public synchronized CompletableFuture<Boolean> syncAsync() {
+        if (pendingSync != null && !pendingSync.isDone()) {
+            return pendingSync;
+        }
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        pendingSync = future;
+        ApiClient.executor().execute(() -> {
+            try {
+                future.complete(sync());
+            } catch (Exception e) {
+                if (ApiClient.isConfigured() && !ApiClient.isConnectionIssue(e)) {
+                    Logger.error("Error syncing local mirror", e);
+                }
+                future.complete(false);
+            }
+        });
+        return future;
+    }
+
+    public synchronized boolean isPopulated() {
+        ensureLoaded(ApiClient.getBaseUrl());
+        return version > 0;
+    }
+
+    private void ensureLoaded(String baseUrl) {
+        if (baseUrl == null || baseUrl.equals(loadedBaseUrl)) {
+            return;
+        }
+        rows.values().forEach(Map::clear);
+        version = 0;
+        prunedThrough = 0;
+        loadedBaseUrl = baseUrl;
+
+        try (PreparedStatement state = connection.prepareStatement(
+                "SELECT version, pruned_through FROM mirror_state WHERE base_url = ?");
+             PreparedStatement data = connection.prepareStatement(
+                     "SELECT table_name, id, data FROM mirror_rows " +
+                             "WHERE base_url = ? AND table_name IN ('tags', 'tasks')")) {
+            state.setString(1, baseUrl);
+            try (ResultSet rs = state.executeQuery()) {
+                if (rs.next()) {
+                    version = rs.getLong(1);
+                    prunedThrough = rs.getLong(2);
+                }
+            }
+            data.setString(1, baseUrl);
+            try (ResultSet rs = data.executeQuery()) {
+                while (rs.next()) {
+                    Map<Long, Map<String, Object>> tableRows = rows.get(rs.getString(1));
+                    if (tableRows != null) {
+                        tableRows.put(rs.getLong(2), mapper.readValue(rs.getString(3), ROW_TYPE));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            Logger.error("Error loading local mirror, starting from scratch", e);
+            rows.values().forEach(Map::clear);
+            version = 0;
+            prunedThrough = 0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean apply(Map<String, Object> changes) throws Exception {
+        boolean changed = false;
+        try (PreparedStatement upsert = connection.prepareStatement(
+                "INSERT OR REPLACE INTO mirror_rows (base_url, table_name, id, sort_at, data) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement delete = connection.prepareStatement(
+                     "DELETE FROM mirror_rows WHERE base_url = ? AND table_name = ? AND id = ?");
+             PreparedStatement lookup = connection.prepareStatement(
+                     "SELECT sort_at FROM mirror_rows WHERE base_url = ? AND table_name = 'sessions' AND id = ?");
+             PreparedStatement state = connection.prepareStatement(
+                     "INSERT OR REPLACE INTO mirror_state (base_url, version, pruned_through) VALUES (?, ?, ?)")) {
+            connection.setAutoCommit(false);
+
+            if (ApiClient.parseBooleanFlag(changes.get("reset"))) {
+                try (PreparedStatement clear = connection.prepareStatement(
+                        "DELETE FROM mirror_rows WHERE base_url = ?")) {
+                    clear.setString(1, loadedBaseUrl);
+                    clear.executeUpdate();
+                }
+                rows.values().forEach(Map::clear);
+                version = 0;
+                changed = true;
+                allSessionDaysChanged = true;
+            }
+
+            for (String table : TABLES) {
+                if (!(changes.get(table) instanceof List<?> changedRows)) continue;
+                Map<Long, Map<String, Object>> tableRows = rows.get(table);
+                String sortKey = SORT_KEYS.get(table);
+                for (Object row : changedRows) {
+                    if (row instanceof Map<?, ?> map && map.get("id") instanceof Number id) {
+                        String sortAt = sortKey != null ? sortValue(map.get(sortKey)) : null;
+                        if (tableRows != null) {
+                            tableRows.put(id.longValue(), (Map<String, Object>) map);
+                            allSessionDaysChanged = true;
+                        } else if (table.equals("sessions")) {
+                            trackSessionDay(lookupSortAt(lookup, id.longValue()));
+                            trackSessionDay(sortAt);
+                        }
+                        upsert.setString(1, loadedBaseUrl);
+                        upsert.setString(2, table);
+                        upsert.setLong(3, id.longValue());
+                        upsert.setString(4, sortAt);
+                        upsert.setString(5, mapper.writeValueAsString(map));
+                        upsert.addBatch();
+                        changed = true;
+                    }
+                }
+            }
+            upsert.executeBatch();
+            if (changes.get("deleted") instanceof List<?> deleted) {
+                for (Object entry : deleted) {
+                    if (!(entry instanceof Map<?, ?> tombstone) || !(tombstone.get("id") instanceof Number id)) continue;
+                    String table = String.valueOf(tombstone.get("table"));
+                    Map<Long, Map<String, Object>> tableRows = rows.get(table);
+                    if (tableRows != null) {
+                        tableRows.remove(id.longValue());
+                        allSessionDaysChanged = true;
+                    } else if (table.equals("sessions")) {
+                        trackSessionDay(lookupSortAt(lookup, id.longValue()));
+                    }
+                    delete.setString(1, loadedBaseUrl);
+                    delete.setString(2, table);
+                    delete.setLong(3, id.longValue());
+                    changed |= delete.executeUpdate() > 0;
+                }
+            }
+            if (changes.get("version") instanceof Number number) {
+                version = Math.max(version, number.longValue());
+            }
+            if (changes.get("prunedThrough") instanceof Number number) {
+                prunedThrough = Math.max(prunedThrough, number.longValue());
+            }
+
+            state.setString(1, loadedBaseUrl);
+            state.setLong(2, version);
+            state.setLong(3, prunedThrough);
+            state.executeUpdate();
+            connection.commit();
+        } catch (Exception e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return changed;
+    }
+
+    private String lookupSortAt(PreparedStatement lookup, long id) throws SQLException {
+        if (allSessionDaysChanged) {
+            return null;
+        }
+        lookup.setString(1, loadedBaseUrl);
+        lookup.setLong(2, id);
+        try (ResultSet rs = lookup.executeQuery()) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    private void trackSessionDay(String sortAt) {
+        if (!allSessionDaysChanged && sortAt != null) {
+            changedSessionDays.add(LocalDate.parse(sortAt.substring(0, 10)));
+        }
+    }
+
+    public synchronized List<Map<String, Object>> getScheduledSessions(LocalDateTime start, LocalDateTime end) {
+        ensureLoaded(ApiClient.getBaseUrl());
+        return between("scheduled_sessions", start, end);
+    }
+
+    public synchronized List<Map<String, Object>> getDeadlines(LocalDateTime start, LocalDateTime end) {
+        ensureLoaded(ApiClient.getBaseUrl());
+        return between("deadlines", start, end);
+    }
+
+    public synchronized List<Map<String, Object>> getSessions(LocalDateTime start, LocalDateTime end) {
+        ensureLoaded(ApiClient.getBaseUrl());
+        return between("sessions", start, end);
+    }
+
+    public synchronized List<Map<String, Object>> getSessionsPage(String after, int limit) {
+        ensureLoaded(ApiClient.getBaseUrl());
+        String sql = "SELECT data FROM mirror_rows WHERE base_url = ? AND table_name = 'sessions' ";
+        String afterSortAt = null;
+        long afterId = 0;
+        if (after != null && !after.isEmpty()) {
+            int split = after.lastIndexOf(',');
+            afterSortAt = sortValue(after.substring(0, split));
+            afterId = Long.parseLong(after.substring(split + 1));
+            sql += "AND (sort_at < ? OR (sort_at = ? AND id < ?)) ";
+        }
+        sql += "ORDER BY sort_at DESC, id DESC LIMIT ?";
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            statement.setString(index++, loadedBaseUrl);
+            if (afterSortAt != null) {
+                statement.setString(index++, afterSortAt);
+                statement.setString(index++, afterSortAt);
+                statement.setLong(index++, afterId);
+            }
+            statement.setInt(index, limit);
+            return readRows(statement, true);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not read local mirror", e);
+        }
+    }
+
+    public synchronized List<Map<String, Object>> getStatsSessions() {
+        ensureLoaded(ApiClient.getBaseUrl());
+        List<Map<String, Object>> sessions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT data FROM mirror_rows WHERE base_url = ? AND table_name = 'sessions' ORDER BY id")) {
+            statement.setString(1, loadedBaseUrl);
+            for (Map<String, Object> row : readRows(statement, false)) {
+                Map<String, Object> resolved = withCurrentTask(row);
+                Map<?, ?> task = resolved.get("task") instanceof Map<?, ?> t ? t : Map.of();
+                Map<?, ?> tag = task.get("tag") instanceof Map<?, ?> g ? g : Map.of();
+                Map<String, Object> flat = new LinkedHashMap<>();
+                flat.put("id", row.get("id"));
+                flat.put("tag", tag.get("name"));
+                flat.put("tagColor", tag.get("color"));
+                flat.put("task", task.get("name"));
+                flat.put("title", row.get("title"));
+                flat.put("description", row.get("description"));
+                flat.put("totalMinutes", row.get("totalMinutes"));
+                flat.put("startDate", row.get("startDate"));
+                flat.put("endDate", row.get("endDate"));
+                flat.put("rating", row.get("rating"));
+                sessions.add(flat);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Could not read local mirror", e);
+        }
+        return sessions;
+    }
+
+    public synchronized List<Map<String, Object>> getCatalog() {
+        ensureLoaded(ApiClient.getBaseUrl());
+        Map<Long, Map<String, Object>> catalog = new LinkedHashMap<>();
+        rows.get("tags").values().stream()
+                .sorted(Comparator.comparing(tag -> String.valueOf(tag.get("name"))))
+                .forEach(tag -> {
+                    Map<String, Object> entry = new LinkedHashMap<>(tag);
+                    entry.put("tasks", new ArrayList<Map<String, Object>>());
+                    catalog.put(((Number) tag.get("id")).longValue(), entry);
+                });
+        rows.get("tasks").values().stream()
+                .sorted(Comparator.comparing(task -> String.valueOf(task.get("name"))))
+                .forEach(task -> {
+                    if (!(task.get("tag") instanceof Map<?, ?> tag) || !(tag.get("id") instanceof Number tagId)) return;
+                    Map<String, Object> entry = catalog.get(tagId.longValue());
+                    if (entry != null) {
+                        ApiClient.catalogTasks(entry).add(Map.of("id", task.get("id"), "name", task.get("name")));
+                    }
+                });
+        return new ArrayList<>(catalog.values());
+    }
+
+    public synchronized String getNoteByDate(LocalDate date) {
+        ensureLoaded(ApiClient.getBaseUrl());
+        List<Map<String, Object>> notes = onDate("day_note", date);
+        Map<String, Object> note = notes.isEmpty() ? null : notes.getFirst();
+        return note != null && note.get("content") != null ? note.get("content").toString() : "";
+    }
+
+    public synchronized List<Map<String, Object>> getTodosByDate(LocalDate date) {
+        ensureLoaded(ApiClient.getBaseUrl());
+        return onDate("todo_item", date);
+    }
+
+    private List<Map<String, Object>> onDate(String table, LocalDate date) {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT data FROM mirror_rows WHERE base_url = ? AND table_name = ? AND sort_at = ? ORDER BY id")) {
+            statement.setString(1, loadedBaseUrl);
+            statement.setString(2, table);
+            statement.setString(3, date.toString());
+            return readRows(statement, false);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not read local mirror", e);
+        }
+    }
+
+    private List<Map<String, Object>> between(String table, LocalDateTime start, LocalDateTime end) {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT data FROM mirror_rows WHERE base_url = ? AND table_name = ? " +
+                        "AND sort_at >= ? AND sort_at <= ? ORDER BY sort_at, id")) {
+            statement.setString(1, loadedBaseUrl);
+            statement.setString(2, table);
+            statement.setString(3, start.format(SORT_FORMAT));
+            statement.setString(4, end.format(SORT_FORMAT));
+            return readRows(statement, true);
+        } catch (Exception e) {
+            throw new RuntimeException("Could not read local mirror", e);
+        }
+    }
+
+    private List<Map<String, Object>> readRows(PreparedStatement statement, boolean resolveTask) throws Exception {
+        List<Map<String, Object>> result = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                Map<String, Object> row = mapper.readValue(rs.getString(1), ROW_TYPE);
+                result.add(resolveTask ? withCurrentTask(row) : row);
+            }
+        }
+        return result;
+    }
+
+    private static String sortValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        if (text.length() == 10) {
+            return text;
+        }
+        LocalDateTime at = ApiClient.parseApiTimestamp(text);
+        return at != null ? at.format(SORT_FORMAT) : null;
+    }
+
+    private Map<String, Object> withCurrentTask(Map<String, Object> row) {
+        Map<String, Object> copy = new LinkedHashMap<>(row);
+        if (row.get("task") instanceof Map<?, ?> task && task.get("id") instanceof Number taskId) {
+            Map<String, Object> current = rows.get("tasks").get(taskId.longValue());
+            if (current != null) {
+                Map<String, Object> resolved = new LinkedHashMap<>(current);
+                if (current.get("tag") instanceof Map<?, ?> tag && tag.get("id") instanceof Number tagId) {
+                    Map<String, Object> currentTag = rows.get("tags").get(tagId.longValue());
+                    if (currentTag != null) {
+                        resolved.put("tag", new LinkedHashMap<>(currentTag));
+                    }
+                }
+                copy.put("task", resolved);
+            }
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,74 @@
+package com.frandm.studytracker.client;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+public final class WeekCache<V> {
+
+    private final Map<LocalDate, CompletableFuture<V>> entries;
+
+    public WeekCache(int capacity) {
+        this.entries = new LinkedHashMap<>(capacity + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, CompletableFuture<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized V get(LocalDate date) {
+        CompletableFuture<V> entry = entries.get(weekStart(date));
+        return entry != null && entry.isDone() && !entry.isCompletedExceptionally() ? entry.join() : null;
+    }
+
+    public V computeIfAbsent(LocalDate date, Function<LocalDate, V> loader) {
+        return getAsync(date, loader, Runnable::run).join();
+    }
+
+    public CompletableFuture<V> getAsync(LocalDate date, Function<LocalDate, V> loader, Executor executor) {
+        LocalDate key = weekStart(date);
+        CompletableFuture<V> future;
+        synchronized (this) {
+            CompletableFuture<V> existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            future = new CompletableFuture<>();
+            entries.put(key, future);
+        }
+        executor.execute(() -> {
+            try {
+                V value = loader.apply(key);
+                if (value == null) {
+                    evict(key, future);
+                }
+                future.complete(value);
+            } catch (RuntimeException e) {
+                evict(key, future);
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    public synchronized void invalidate(LocalDate date) {
+        entries.remove(weekStart(date));
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    private synchronized void evict(LocalDate key, CompletableFuture<V> future) {
+        entries.remove(key, future);
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+}
@@ -0,0 +1,115 @@
+package com.frandm.studytracker.client;
+
+import com.frandm.studytracker.core.Logger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public final class WriteBehindQueue<K, V> {
+
+    @FunctionalInterface
+    public interface Writer<K, V> {
+        void write(K key, V value) throws Exception;
+    }
+
+    private static final long MIN_RETRY_MS = 1_000;
+    private static final long MAX_RETRY_MS = 60_000;
+
+    private final Map<K, V> pending = new LinkedHashMap<>();
+    private final Map<K, V> inFlight = new LinkedHashMap<>();
+    private final ScheduledExecutorService worker;
+    private final Writer<K, V> writer;
+    private final long debounceMs;
+    private ScheduledFuture<?> scheduledDrain;
+    private long retryMs;
+
+    public WriteBehindQueue(String threadName, long debounceMs, Writer<K, V> writer) {
+        this.writer = writer;
+        this.debounceMs = debounceMs;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public synchronized void submit(K key, V value) {
+        pending.put(key, value);
+        reschedule(debounceMs);
+    }
+
+    public synchronized void flush() {
+        reschedule(0);
+    }
+
+    public boolean flushAndAwait(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            reschedule(0);
+            while (!pending.isEmpty() || !inFlight.isEmpty()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+
+    public synchronized V latest(K key) {
+        V queued = pending.get(key);
+        return queued != null ? queued : inFlight.get(key);
+    }
+
+    private void reschedule(long delayMs) {
+        if (scheduledDrain != null) {
+            scheduledDrain.cancel(false);
+        }
+        scheduledDrain = worker.schedule(this::drain, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void drain() {
+        while (true) {
+            K key;
+            V value;
+            synchronized (this) {
+                Iterator<Map.Entry<K, V>> iterator = pending.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                Map.Entry<K, V> next = iterator.next();
+                key = next.getKey();
+                value = next.getValue();
+                iterator.remove();
+                inFlight.put(key, value);
+            }
+            boolean written = false;
+            try {
+                writer.write(key, value);
+                written = true;
+            } catch (Exception e) {
+                Logger.error("Write-behind flush failed for " + key, e);
+            } finally {
+                synchronized (this) {
+                    inFlight.remove(key, value);
+                    if (written) {
+                        retryMs = 0;
+                    } else {
+                        pending.putIfAbsent(key, value);
+                        retryMs = Math.min(MAX_RETRY_MS, Math.max(MIN_RETRY_MS, retryMs * 2));
+                        reschedule(retryMs);
+                    }
+                    notifyAll();
+                }
+            }
+            if (!written) {
+                return;
+            }
+        }
+    }
+}
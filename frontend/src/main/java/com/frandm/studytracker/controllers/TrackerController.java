@@ -120,6 +120,8 @@ public class TrackerController {
     private double SIZE_FACTOR = 0.05;
     private int currentRating = 0;
     private LocalDateTime startDate;
+    private boolean savingSession;
+    private long sideMenuGeneration;
 
     private final List<FontIcon> starNodes = new ArrayList<>();
     private final List<FontIcon> editStarNodes = new ArrayList<>();
@@ -217,6 +219,9 @@ public class TrackerController {
         TagEventBus.getInstance().subscribe(_ -> {
             refreshTagsAndTasksAsync();
             Platform.runLater(this::refreshSideMenu);
+            if (logsView != null) {
+                logsView.getLogsController().refreshSessionData();
+            }
         });
     }
 
@@ -234,14 +239,12 @@ public class TrackerController {
         boolean hasStoredApiUrl = ConfigManager.hasStoredApiUrl();
         boolean hasEnvApiUrl = System.getenv("API_URL") != null && !System.getenv("API_URL").isBlank();
         if (hasStoredApiUrl || hasEnvApiUrl) {
-            new Thread(() -> {
-                refreshTagsAndTasks();
-                Platform.runLater(() -> {
-                    if (statsDashboard != null) {
-                        statsDashboard.refresh();
-                    }
-                });
-            }, "data-refresh-thread").start();
+            refreshTagsAndTasksAsync();
+            Platform.runLater(() -> {
+                if (statsDashboard != null) {
+                    statsDashboard.refresh();
+                }
+            });
         }
     }
 
@@ -787,83 +790,46 @@ public class TrackerController {
         }
     }
 
-    public void refreshTagsAndTasks() {
-        if (!ApiClient.isConfigured()) {
-            return;
-        }
-        try {
-            final Map<String, String> colors = new java.util.LinkedHashMap<>();
-            final Map<String, Long> ids = new java.util.LinkedHashMap<>();
-            final Map<String, List<SetupManager.TaskOption>> map = new java.util.LinkedHashMap<>();
-
-            List<Map<String, Object>> tags = ApiClient.getTags();
-            tags.forEach(t -> {
-                String tagName = (String) t.get("name");
-                colors.put(tagName, (String) t.get("color"));
-                ids.put(tagName, ((Number) t.get("id")).longValue());
-                try {
-                    List<SetupManager.TaskOption> tasks = ApiClient.getTasks(tagName).stream()
-                            .map(task -> new SetupManager.TaskOption(((Number) task.get("id")).longValue(), (String) task.get("name")))
-                            .collect(java.util.stream.Collectors.toList());
-                    map.put(tagName, tasks);
-                } catch (Exception ex) {
-                    map.put(tagName, new ArrayList<>());
-                }
-            });
-            tagColors = colors;
-            tagIds = ids;
-            tagsWithTasksMap = map;
-        } catch (Exception e) {
-            Logger.error("Error refreshing data", e);
-        }
-
-        setupManager.renderTagsList(tagsListContainer, tagColors, tagIds, () ->
-                setupManager.updateFuzzyResults(fuzzySearchInput.getText(), fuzzyResultsContainer, tagsWithTasksMap, tagColors, this::onTaskSelected)
-        );
+    private record TagCatalog(Map<String, String> colors, Map<String, Long> ids,
+                              Map<String, List<SetupManager.TaskOption>> tasks) {}
 
-        setupManager.updateFuzzyResults("", fuzzyResultsContainer, tagsWithTasksMap, tagColors, this::onTaskSelected);
+    private static TagCatalog toTagCatalog(List<Map<String, Object>> catalog) {
+        Map<String, String> colors = new LinkedHashMap<>();
+        Map<String, Long> ids = new LinkedHashMap<>();
+        Map<String, List<SetupManager.TaskOption>> tasks = new LinkedHashMap<>();
+        for (Map<String, Object> tag : catalog) {
+            if (ApiClient.parseBooleanFlag(tag.get("archived"))) continue;
+            String tagName = (String) tag.get("name");
+            colors.put(tagName, (String) tag.get("color"));
+            ids.put(tagName, ((Number) tag.get("id")).longValue());
+            tasks.put(tagName, ApiClient.catalogTasks(tag).stream()
+                    .map(task -> new SetupManager.TaskOption(((Number) task.get("id")).longValue(), (String) task.get("name")))
+                    .collect(java.util.stream.Collectors.toList()));
+        }
+        return new TagCatalog(colors, ids, tasks);
     }
 
     private void refreshTagsAndTasksAsync() {
         if (!ApiClient.isConfigured()) {
             return;
         }
-        new Thread(() -> {
-            try {
-                final Map<String, String> colors = new java.util.LinkedHashMap<>();
-                final Map<String, Long> ids = new java.util.LinkedHashMap<>();
-                final Map<String, List<SetupManager.TaskOption>> map = new java.util.LinkedHashMap<>();
-
-                List<Map<String, Object>> tags = ApiClient.getTags();
-                tags.forEach(t -> {
-                    String tagName = (String) t.get("name");
-                    colors.put(tagName, (String) t.get("color"));
-                    ids.put(tagName, ((Number) t.get("id")).longValue());
-                    try {
-                        List<SetupManager.TaskOption> tasks = ApiClient.getTasks(tagName).stream()
-                                .map(task -> new SetupManager.TaskOption(((Number) task.get("id")).longValue(), (String) task.get("name")))
-                                .collect(java.util.stream.Collectors.toList());
-                        map.put(tagName, tasks);
-                    } catch (Exception ex) {
-                        map.put(tagName, new ArrayList<>());
+        ApiClient.getCatalogAsync()
+                .thenApply(TrackerController::toTagCatalog)
+                .whenComplete((catalog, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        Logger.error("Error refreshing tags async", ApiClient.unwrap(error));
+                        return;
                     }
-                });
-
-                Platform.runLater(() -> {
-                    tagColors = colors;
-                    tagIds = ids;
-                    tagsWithTasksMap = map;
+                    tagColors = catalog.colors();
+                    tagIds = catalog.ids();
+                    tagsWithTasksMap = catalog.tasks();
 
                     setupManager.renderTagsList(tagsListContainer, tagColors, tagIds, () ->
                             setupManager.updateFuzzyResults(fuzzySearchInput.getText(), fuzzyResultsContainer, tagsWithTasksMap, tagColors, this::onTaskSelected)
                     );
 
                     setupManager.updateFuzzyResults("", fuzzyResultsContainer, tagsWithTasksMap, tagColors, this::onTaskSelected);
-                });
-            } catch (Exception e) {
-                Logger.error("Error refreshing tags async", e);
-            }
-        }, "tag-refresh-thread").start();
+                }));
     }
 
     private void updateEngineSettings() {
@@ -950,32 +916,36 @@ public class TrackerController {
             NotificationManager.show("Info", "Required 1 min to save session", NotificationManager.NotificationType.INFO);
             return;
         }
-        try {
-            ApiClient.saveSession(
-                    setupManager.getSelectedTag(),
-                    tagColors.getOrDefault(setupManager.getSelectedTag(), "#ffffff"),
-                    setupManager.getSelectedTask(),
-                    summaryTitle.getText(),
-                    summaryDesc.getText(),
-                    engine.getRealMinutesElapsed(),
-                    ApiClient.formatApiTimestamp(startDate),
-                    ApiClient.formatApiTimestamp(LocalDateTime.now()),
-                    currentRating
-            );
-        } catch (Exception e) {
-            Logger.error("Error saving session", e);
-            showBackendOperationError("Session could not be saved", e);
+        if (savingSession) {
             return;
         }
+        savingSession = true;
+        ApiClient.saveSessionAsync(
+                setupManager.getSelectedTag(),
+                tagColors.getOrDefault(setupManager.getSelectedTag(), "#ffffff"),
+                setupManager.getSelectedTask(),
+                summaryTitle.getText(),
+                summaryDesc.getText(),
+                engine.getRealMinutesElapsed(),
+                ApiClient.formatApiTimestamp(startDate),
+                ApiClient.formatApiTimestamp(LocalDateTime.now()),
+                currentRating
+        ).whenComplete((_, error) -> Platform.runLater(() -> {
+            savingSession = false;
+            if (error != null) {
+                Exception cause = ApiClient.unwrap(error);
+                Logger.error("Error saving session", cause);
+                showBackendOperationError("Session could not be saved", cause);
+                return;
+            }
 
-        statsDashboard.refresh();
-        logsView.getLogsController().refreshSessionData();
-        currentRating=0;
-        updateStarsUI();
+            currentRating=0;
+            updateStarsUI();
 
-        resetFullApp();
-        toggleSummary();
-        NotificationManager.show("Session finished", "Saved session", NotificationManager.NotificationType.SUCCESS);
+            resetFullApp();
+            toggleSummary();
+            NotificationManager.show("Session finished", "Saved session", NotificationManager.NotificationType.SUCCESS);
+        }));
     }
 
     @FXML
@@ -1438,7 +1408,7 @@ public class TrackerController {
         appearanceManager.updateThemeSelection(themeButtonsContainer, theme);
     }
 
-    private VBox createTodaySchedulesList() {
+    private VBox createTodaySchedulesList(List<Map<String, Object>> todaySessions) {
         VBox container = new VBox(10);
         container.setPadding(new Insets(15));
         container.getStyleClass().add("menu-today-container");
@@ -1447,24 +1417,15 @@ public class TrackerController {
         title.getStyleClass().add("menu-section-title");
 
         VBox list = new VBox(5);
-        List<Map<String, Object>> todaySessions;
-        try {
-            String today = ApiClient.formatApiTimestamp(LocalDate.now().atStartOfDay());
-            String endOfDay = ApiClient.formatApiTimestamp(LocalDate.now().atTime(23, 59, 59));
-            todaySessions = ApiClient.getScheduledSessions(today, endOfDay);
-        } catch (Exception e) {
-            Logger.error("Error loading today sessions", e);
-            todaySessions = new ArrayList<>();
-        }
-
         if (todaySessions.isEmpty()) {
             Label empty = new Label("No scheduled sessions for today");
             empty.getStyleClass().add("menu-empty-text");
             list.getChildren().add(empty);
         } else {
-            todaySessions.sort(Comparator.comparing(this::extractSessionStartTime, Comparator.nullsLast(Comparator.naturalOrder())));
+            List<Map<String, Object>> sorted = new ArrayList<>(todaySessions);
+            sorted.sort(Comparator.comparing(this::extractSessionStartTime, Comparator.nullsLast(Comparator.naturalOrder())));
 
-            for (Map<String, Object> session : todaySessions) {
+            for (Map<String, Object> session : sorted) {
                 list.getChildren().add(createMiniSessionItem(session));
             }
         }
@@ -1473,7 +1434,7 @@ public class TrackerController {
         return container;
     }
 
-    private VBox createUpcomingDeadlinesList() {
+    private VBox createUpcomingDeadlinesList(List<Map<String, Object>> upcomingDeadlines) {
         VBox container = new VBox(10);
         container.setPadding(new Insets(15));
         container.getStyleClass().add("menu-today-container");
@@ -1482,18 +1443,8 @@ public class TrackerController {
         title.getStyleClass().add("menu-section-title");
 
         VBox list = new VBox(5);
-        List<Map<String, Object>> upcomingDeadlines;
         LocalDate todayDate = LocalDate.now();
         LocalDateTime nowDateTime = LocalDateTime.now();
-        try {
-            String startOfToday = ApiClient.formatApiTimestamp(todayDate.atStartOfDay());
-            String futureLimit = ApiClient.formatApiTimestamp(todayDate.plusYears(1).atTime(23, 59, 59));
-            upcomingDeadlines = ApiClient.getDeadlines(startOfToday, futureLimit);
-        } catch (Exception e) {
-            Logger.error("Error loading upcoming deadlines", e);
-            upcomingDeadlines = new ArrayList<>();
-        }
-
         upcomingDeadlines = upcomingDeadlines.stream()
                 .filter(deadline -> !ApiClient.extractCompletedFlag(deadline))
                 .filter(deadline -> {
@@ -1524,7 +1475,7 @@ public class TrackerController {
         return container;
     }
 
-    private VBox createTodayTodosList() {
+    private VBox createTodayTodosList(List<Map<String, Object>> todos) {
         VBox container = new VBox(10);
         container.setPadding(new Insets(15));
         container.getStyleClass().add("menu-today-container");
@@ -1533,14 +1484,6 @@ public class TrackerController {
         title.getStyleClass().add("menu-section-title");
 
         VBox list = new VBox(5);
-        List<Map<String, Object>> todos;
-        try {
-            todos = ApiClient.getTodosByDate(LocalDate.now());
-        } catch (Exception e) {
-            Logger.error("Error loading today's todos", e);
-            todos = new ArrayList<>();
-        }
-
         if (todos.isEmpty()) {
             Label empty = new Label("No to-dos for today");
             empty.getStyleClass().add("menu-empty-text");
@@ -1688,15 +1631,50 @@ public class TrackerController {
     }
 
     public void refreshSideMenu() {
-        if (scheduleListContainer != null) {
-            scheduleListContainer.getChildren().clear();
-            scheduleListContainer.getChildren().add(createUpcomingDeadlinesList());
-            scheduleListContainer.getChildren().add(createTodayTodosList());
-            scheduleListContainer.getChildren().add(createTodaySchedulesList());
+        if (scheduleListContainer == null) {
+            return;
         }
+        long generation = ++sideMenuGeneration;
+        if (!ApiClient.isConfigured()) {
+            renderSideMenu(List.of(), List.of(), List.of());
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        var deadlines = ApiClient.getDeadlinesAsync(
+                ApiClient.formatApiTimestamp(today.atStartOfDay()),
+                ApiClient.formatApiTimestamp(today.plusYears(1).atTime(23, 59, 59))
+        ).exceptionally(e -> emptyOnError("Error loading upcoming deadlines", e));
+        var todos = ApiClient.getTodosAsync(today)
+                .exceptionally(e -> emptyOnError("Error loading today's todos", e));
+        var sessions = ApiClient.getScheduledSessionsAsync(
+                ApiClient.formatApiTimestamp(today.atStartOfDay()),
+                ApiClient.formatApiTimestamp(today.atTime(23, 59, 59))
+        ).exceptionally(e -> emptyOnError("Error loading today sessions", e));
+
+        java.util.concurrent.CompletableFuture.allOf(deadlines, todos, sessions).thenRun(() -> Platform.runLater(() -> {
+            if (generation != sideMenuGeneration) {
+                return;
+            }
+            renderSideMenu(deadlines.join(), todos.join(), sessions.join());
+        }));
         //refreshDynamicDock();
     }
 
+    private void renderSideMenu(List<Map<String, Object>> deadlines,
+                                List<Map<String, Object>> todos,
+                                List<Map<String, Object>> sessions) {
+        scheduleListContainer.getChildren().setAll(
+                createUpcomingDeadlinesList(deadlines),
+                createTodayTodosList(todos),
+                createTodaySchedulesList(sessions)
+        );
+    }
+
+    private List<Map<String, Object>> emptyOnError(String message, Throwable error) {
+        Logger.error(message, ApiClient.unwrap(error));
+        return List.of();
+    }
+
     private LocalDateTime extractSessionStartTime(Map<String, Object> session) {
         return ApiClient.parseApiTimestamp(session.get("startDate"));
     }
@@ -2001,6 +1979,12 @@ public class TrackerController {
         return engine.getCurrentState() != TrackerEngine.State.MENU;
     }
 
+    public void flushPendingWrites() {
+        if (plannerController != null) {
+            plannerController.getDailyTab().flushPendingNotes();
+        }
+    }
+
     private record BackgroundOption(String label, String source) {}
 
     //endregion
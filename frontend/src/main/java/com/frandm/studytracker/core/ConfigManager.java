@@ -14,6 +14,10 @@ public class ConfigManager {
     public static final String DEFAULT_API_URL = "http://localhost:8080/api";
 
     private static File getConfigFile() {
+        return getDataFile(FILE_NAME);
+    }
+
+    public static File getDataFile(String name) {
 
         String userHome = System.getProperty("user.home");
         File configDir = new File(userHome, FOLDER_NAME);
@@ -25,7 +29,7 @@ public class ConfigManager {
             }
         }
 
-        return new File(configDir, FILE_NAME);
+        return new File(configDir, name);
     }
 
     private static Properties loadAllProperties() {
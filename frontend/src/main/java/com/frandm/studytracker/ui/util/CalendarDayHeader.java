@@ -0,0 +1,41 @@
+package com.frandm.studytracker.ui.util;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.shape.Circle;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.Locale;
+
+public class CalendarDayHeader extends VBox {
+
+    private final Label lblName = new Label();
+    private final Label lblNum = new Label();
+    private final Circle circle = new Circle(14);
+
+    public CalendarDayHeader() {
+        super(2);
+        StackPane numStack = new StackPane(circle, lblNum);
+        getChildren().addAll(lblName, numStack);
+        setAlignment(Pos.TOP_CENTER);
+        setPadding(new Insets(10, 0, 10, 0));
+    }
+
+    public void update(LocalDate date, boolean isToday) {
+        lblName.setText(date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.getDefault()).toUpperCase());
+        lblNum.setText(String.valueOf(date.getDayOfMonth()));
+        swapStyle(lblName, isToday, "calendar-day-name-today", "calendar-day-name");
+        swapStyle(lblNum, isToday, "calendar-day-num-today", "calendar-day-num");
+        swapStyle(circle, isToday, "calendar-today-circle", "calendar-nottoday-circle");
+    }
+
+    private static void swapStyle(Node node, boolean active, String activeClass, String inactiveClass) {
+        node.getStyleClass().removeAll(activeClass, inactiveClass);
+        node.getStyleClass().add(active ? activeClass : inactiveClass);
+    }
+}
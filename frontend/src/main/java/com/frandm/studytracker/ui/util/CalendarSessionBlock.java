@@ -0,0 +1,68 @@
+package com.frandm.studytracker.ui.util;
+
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import org.kordamp.ikonli.javafx.FontIcon;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class CalendarSessionBlock extends HBox {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final Label titleLabel = new Label();
+    private final HBox timeContainer = new HBox();
+    private final Label timeLabel = new Label();
+    private final Label tagLabel = new Label();
+    private final Tooltip tooltip = new Tooltip();
+
+    public CalendarSessionBlock() {
+        super(2);
+        getStyleClass().add("calendar-session-block");
+
+        Region colorBar = new Region();
+        colorBar.getStyleClass().add("session-color-bar");
+
+        VBox contenido = new VBox();
+        contenido.getStyleClass().add("session-content-container");
+
+        titleLabel.getStyleClass().add("session-title");
+
+        timeContainer.getStyleClass().add("session-time-container");
+        FontIcon timeIcon = new FontIcon("mdi2c-clock-outline");
+        timeIcon.getStyleClass().add("session-time-icon");
+        timeLabel.getStyleClass().add("session-time-label");
+        timeContainer.getChildren().addAll(timeIcon, timeLabel);
+
+        tagLabel.getStyleClass().add("session-tag-badge");
+
+        contenido.getChildren().addAll(titleLabel, timeContainer, tagLabel);
+        getChildren().addAll(colorBar, contenido);
+        Tooltip.install(this, tooltip);
+    }
+
+    public void update(String title, String tag, String color, LocalDateTime start, LocalDateTime end, double bh, boolean frag) {
+        setStyle("-session-bg-color: " + color + "50; -session-color: " + color + ";");
+        String timeRange = start.format(TIME_FORMAT) + " - " + end.format(TIME_FORMAT);
+
+        titleLabel.setText(title);
+        timeLabel.setText(timeRange);
+        tagLabel.setText(tag);
+
+        // si es muy corto se quita el tag o la hora
+        setShown(titleLabel, !frag);
+        setShown(timeContainer, !frag && bh > 45);
+        setShown(tagLabel, !frag && bh > 65);
+
+        tooltip.setText(title + "\n" + timeRange);
+    }
+
+    private static void setShown(Region region, boolean shown) {
+        region.setVisible(shown);
+        region.setManaged(shown);
+    }
+}
@@ -0,0 +1,60 @@
+package com.frandm.studytracker.ui.util;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+public class KeyedNodePool<K, M, N extends Node> {
+
+    public record Placement<M>(Pane parent, M model) {}
+
+    private final Supplier<N> factory;
+    private final BiConsumer<N, M> binder;
+    private final Map<K, N> nodes = new HashMap<>();
+    private final Map<K, Placement<M>> placements = new HashMap<>();
+    private final Deque<N> pool = new ArrayDeque<>();
+
+    public KeyedNodePool(Supplier<N> factory, BiConsumer<N, M> binder) {
+        this.factory = factory;
+        this.binder = binder;
+    }
+
+    public void reconcile(Map<K, Placement<M>> next) {
+        Iterator<Map.Entry<K, N>> iterator = nodes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, N> entry = iterator.next();
+            if (next.containsKey(entry.getKey())) continue;
+            Placement<M> previous = placements.remove(entry.getKey());
+            previous.parent().getChildren().remove(entry.getValue());
+            pool.push(entry.getValue());
+            iterator.remove();
+        }
+
+        for (Map.Entry<K, Placement<M>> entry : next.entrySet()) {
+            Placement<M> placement = entry.getValue();
+            Placement<M> previous = placements.put(entry.getKey(), placement);
+            N node = nodes.computeIfAbsent(entry.getKey(), _ -> pool.isEmpty() ? factory.get() : pool.pop());
+
+            boolean moved = previous == null || previous.parent() != placement.parent();
+            if (moved) {
+                if (previous != null) previous.parent().getChildren().remove(node);
+                placement.parent().getChildren().add(node);
+            }
+            if (moved || !Objects.equals(previous.model(), placement.model())) {
+                binder.accept(node, placement.model());
+            }
+        }
+    }
+
+    public N nodeFor(K key) {
+        return nodes.get(key);
+    }
+}
@@ -0,0 +1,163 @@
+package com.frandm.studytracker.ui.views.dashboard;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+final class DailyIndex {
+
+    private static final class Series {
+        private int[] days = new int[4];
+        private int[] prefix = new int[5];
+        private int length;
+
+        void add(int day, int value) {
+            if (length > 0 && days[length - 1] == day) {
+                prefix[length] += value;
+                return;
+            }
+            if (length == days.length) {
+                days = Arrays.copyOf(days, length * 2);
+                prefix = Arrays.copyOf(prefix, length * 2 + 1);
+            }
+            days[length] = day;
+            prefix[length + 1] = prefix[length] + value;
+            length++;
+        }
+
+        int sum(int fromDay, int toDay) {
+            return prefix[lowerBound(days, length, toDay + 1)] - prefix[lowerBound(days, length, fromDay)];
+        }
+    }
+
+    private final int[] days;
+    private final int[] minutesPrefix;
+    private final int[] sessionsPrefix;
+    private final int[] ratingSumPrefix;
+    private final int[] ratedPrefix;
+    private final int[][] longestTable;
+    private final Series[] tagSeries;
+    private final Series[] taskSeries;
+    private final Series[] weekdaySeries;
+    private final Series[] periodSeries;
+
+    DailyIndex(int size, int[] epochDay, int[] minutes, short[] tag, short[] task, byte[] rating, int[] startMinute,
+               int tagCount, int taskCount) {
+        int dayCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || epochDay[i] != epochDay[i - 1]) dayCount++;
+        }
+
+        days = new int[dayCount];
+        minutesPrefix = new int[dayCount + 1];
+        sessionsPrefix = new int[dayCount + 1];
+        ratingSumPrefix = new int[dayCount + 1];
+        ratedPrefix = new int[dayCount + 1];
+        int[] dayLongest = new int[dayCount];
+        tagSeries = newSeries(tagCount);
+        taskSeries = newSeries(taskCount);
+        weekdaySeries = newSeries(7);
+        periodSeries = newSeries(SessionColumns.DAY_PERIODS.length);
+
+        int position = -1;
+        for (int i = 0; i < size; i++) {
+            int day = epochDay[i];
+            if (position < 0 || days[position] != day) {
+                position++;
+                days[position] = day;
+                minutesPrefix[position + 1] = minutesPrefix[position];
+                sessionsPrefix[position + 1] = sessionsPrefix[position];
+                ratingSumPrefix[position + 1] = ratingSumPrefix[position];
+                ratedPrefix[position + 1] = ratedPrefix[position];
+            }
+            int value = minutes[i];
+            minutesPrefix[position + 1] += value;
+            sessionsPrefix[position + 1]++;
+            if (rating[i] > 0) {
+                ratingSumPrefix[position + 1] += rating[i];
+                ratedPrefix[position + 1]++;
+            }
+            dayLongest[position] = Math.max(dayLongest[position], value);
+            tagSeries[tag[i]].add(day, value);
+            taskSeries[task[i]].add(day, value);
+            weekdaySeries[SessionColumns.weekdayIndex(day)].add(day, value);
+            periodSeries[SessionColumns.dayPeriodIndex(startMinute[i])].add(day, value);
+        }
+
+        int levels = 32 - Integer.numberOfLeadingZeros(Math.max(dayCount, 1));
+        longestTable = new int[levels][];
+        longestTable[0] = dayLongest;
+        for (int level = 1; level < levels; level++) {
+            int half = 1 << (level - 1);
+            int[] previous = longestTable[level - 1];
+            int[] current = new int[dayCount - (1 << level) + 1];
+            for (int i = 0; i < current.length; i++) {
+                current[i] = Math.max(previous[i], previous[i + half]);
+            }
+            longestTable[level] = current;
+        }
+    }
+
+    SessionColumns.Aggregate query(LocalDate start, LocalDate end) {
+        int from = start == null ? 0 : lowerBound(days, days.length, start.toEpochDay());
+        int to = end == null ? days.length : lowerBound(days, days.length, end.toEpochDay() + 1);
+
+        int[] tagMinutes = new int[tagSeries.length];
+        int[] taskMinutes = new int[taskSeries.length];
+        int[] weekdayMinutes = new int[weekdaySeries.length];
+        int[] periodMinutes = new int[periodSeries.length];
+        if (from >= to) {
+            return new SessionColumns.Aggregate(0, 0, 0, 0, 0, 0, 0, 0, new int[0],
+                    tagMinutes, taskMinutes, weekdayMinutes, periodMinutes);
+        }
+
+        int firstDay = days[from];
+        int lastDay = days[to - 1];
+        int[] dayMinutes = new int[lastDay - firstDay + 1];
+        for (int k = from; k < to; k++) {
+            dayMinutes[days[k] - firstDay] = minutesPrefix[k + 1] - minutesPrefix[k];
+        }
+        fill(tagMinutes, tagSeries, firstDay, lastDay);
+        fill(taskMinutes, taskSeries, firstDay, lastDay);
+        fill(weekdayMinutes, weekdaySeries, firstDay, lastDay);
+        fill(periodMinutes, periodSeries, firstDay, lastDay);
+
+        return new SessionColumns.Aggregate(
+                sessionsPrefix[to] - sessionsPrefix[from],
+                minutesPrefix[to] - minutesPrefix[from],
+                to - from,
+                longest(from, to),
+                ratingSumPrefix[to] - ratingSumPrefix[from],
+                ratedPrefix[to] - ratedPrefix[from],
+                weekdayMinutes[5] + weekdayMinutes[6],
+                firstDay, dayMinutes, tagMinutes, taskMinutes, weekdayMinutes, periodMinutes
+        );
+    }
+
+    private int longest(int from, int to) {
+        int level = 31 - Integer.numberOfLeadingZeros(to - from);
+        return Math.max(longestTable[level][from], longestTable[level][to - (1 << level)]);
+    }
+
+    private static void fill(int[] target, Series[] series, int fromDay, int toDay) {
+        for (int id = 0; id < series.length; id++) {
+            target[id] = series[id].sum(fromDay, toDay);
+        }
+    }
+
+    private static Series[] newSeries(int count) {
+        Series[] series = new Series[count];
+        Arrays.setAll(series, _ -> new Series());
+        return series;
+    }
+
+    private static int lowerBound(int[] values, int length, long key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+}
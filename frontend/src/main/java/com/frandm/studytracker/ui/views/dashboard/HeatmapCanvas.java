@@ -0,0 +1,178 @@
+package com.frandm.studytracker.ui.views.dashboard;
+
+import javafx.geometry.Point2D;
+import javafx.geometry.VPos;
+import javafx.scene.Cursor;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+final class HeatmapCanvas extends Canvas {
+
+    private static final double CELL = 15;
+    private static final double GAP = 6;
+    private static final double STEP = CELL + GAP;
+    private static final double ARC = 5;
+    private static final double LABEL_WIDTH = 38 + GAP;
+    private static final double HEADER_HEIGHT = 16 + 10;
+    private static final Font LABEL_FONT = Font.font(12);
+    private static final DateTimeFormatter TOOLTIP_DATE_FORMAT = DateTimeFormatter.ofPattern("MMM dd yyyy", Locale.US);
+
+    private final Tooltip tooltip = new Tooltip();
+    private Color[] ramp = {Color.TRANSPARENT, Color.TRANSPARENT, Color.TRANSPARENT, Color.TRANSPARENT, Color.TRANSPARENT};
+    private Color textColor = Color.GRAY;
+
+    private LocalDate startDate;
+    private int weeks;
+    private int dayCount;
+    private int[] minutes = new int[0];
+    private byte[] levels = new byte[0];
+    private int hoveredIndex = -1;
+
+    HeatmapCanvas() {
+        tooltip.getStyleClass().add("heatmap-tooltip");
+        setOnMouseMoved(event -> hover(event.getX(), event.getY()));
+        setOnMouseExited(_ -> hover(-1, -1));
+    }
+
+    void setRamp(Color[] ramp, Color textColor) {
+        this.ramp = ramp.clone();
+        this.textColor = textColor;
+        redraw();
+    }
+
+    void setData(LocalDate startDate, int weeks, LocalDate lastDate, Map<LocalDate, Integer> values) {
+        int days = (int) Math.clamp(lastDate.toEpochDay() - startDate.toEpochDay() + 1, 0, weeks * 7L);
+        int[] nextMinutes = new int[days];
+        long firstDay = startDate.toEpochDay();
+        for (Map.Entry<LocalDate, Integer> entry : values.entrySet()) {
+            long offset = entry.getKey().toEpochDay() - firstDay;
+            if (offset >= 0 && offset < days) nextMinutes[(int) offset] = entry.getValue();
+        }
+        int maxMinutes = Arrays.stream(nextMinutes).max().orElse(0);
+
+        boolean sameLayout = startDate.equals(this.startDate) && weeks == this.weeks && days == dayCount;
+        this.startDate = startDate;
+        this.weeks = weeks;
+        this.dayCount = days;
+        this.minutes = nextMinutes;
+
+        if (!sameLayout) {
+            levels = new byte[days];
+            for (int i = 0; i < days; i++) levels[i] = level(nextMinutes[i], maxMinutes);
+            setWidth(LABEL_WIDTH + weeks * STEP);
+            setHeight(HEADER_HEIGHT + 7 * STEP);
+            hoveredIndex = -1;
+            tooltip.hide();
+            redraw();
+            return;
+        }
+
+        GraphicsContext gc = getGraphicsContext2D();
+        for (int i = 0; i < days; i++) {
+            byte level = level(nextMinutes[i], maxMinutes);
+            if (level != levels[i]) {
+                levels[i] = level;
+                drawCell(gc, i);
+            }
+        }
+        if (hoveredIndex >= 0) tooltip.setText(tooltipText(hoveredIndex));
+    }
+
+    private void redraw() {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.clearRect(0, 0, getWidth(), getHeight());
+        if (startDate == null) return;
+
+        gc.setFont(LABEL_FONT);
+        gc.setFill(textColor);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.CENTER);
+        for (int day : new int[]{0, 2, 4}) {
+            gc.fillText(label(DayOfWeek.of(day + 1).getDisplayName(TextStyle.SHORT, Locale.US)), 0, HEADER_HEIGHT + day * STEP + CELL / 2);
+        }
+
+        int lastMonth = -1;
+        for (int week = 0; week < weeks; week++) {
+            for (int day = 0; day < 7; day++) {
+                int index = week * 7 + day;
+                if (index >= dayCount) break;
+                LocalDate date = startDate.plusDays(index);
+                if (date.getMonthValue() != lastMonth) {
+                    lastMonth = date.getMonthValue();
+                    gc.setFill(textColor);
+                    gc.fillText(label(date.getMonth().getDisplayName(TextStyle.SHORT, Locale.US)), LABEL_WIDTH + week * STEP, 8);
+                    break;
+                }
+            }
+        }
+
+        for (int i = 0; i < dayCount; i++) {
+            drawCell(gc, i);
+        }
+    }
+
+    private void drawCell(GraphicsContext gc, int index) {
+        double x = LABEL_WIDTH + (index / 7) * STEP;
+        double y = HEADER_HEIGHT + (index % 7) * STEP;
+        gc.clearRect(x, y, CELL, CELL);
+        gc.setFill(ramp[levels[index]]);
+        gc.fillRoundRect(x, y, CELL, CELL, ARC, ARC);
+    }
+
+    private void hover(double x, double y) {
+        int index = cellAt(x, y);
+        if (index == hoveredIndex) return;
+        hoveredIndex = index;
+
+        if (index < 0) {
+            setCursor(Cursor.DEFAULT);
+            tooltip.hide();
+            return;
+        }
+
+        setCursor(Cursor.HAND);
+        tooltip.setText(tooltipText(index));
+        Point2D anchor = localToScreen(LABEL_WIDTH + (index / 7) * STEP + CELL, HEADER_HEIGHT + (index % 7) * STEP + CELL);
+        if (anchor != null) tooltip.show(this, anchor.getX(), anchor.getY());
+    }
+
+    private int cellAt(double x, double y) {
+        double column = x - LABEL_WIDTH;
+        double row = y - HEADER_HEIGHT;
+        if (column < 0 || row < 0) return -1;
+        int week = (int) (column / STEP);
+        int day = (int) (row / STEP);
+        if (day >= 7 || column - week * STEP > CELL || row - day * STEP > CELL) return -1;
+        int index = week * 7 + day;
+        return index < dayCount ? index : -1;
+    }
+
+    private String tooltipText(int index) {
+        return startDate.plusDays(index).format(TOOLTIP_DATE_FORMAT) + "\n" + String.format(Locale.US, "%.1fh", minutes[index] / 60.0);
+    }
+
+    private static byte level(int minutes, int maxMinutes) {
+        if (minutes == 0 || maxMinutes == 0) return 0;
+        double percentage = (double) minutes / maxMinutes;
+        if (percentage < 0.25) return 1;
+        if (percentage < 0.50) return 2;
+        if (percentage < 0.75) return 3;
+        return 4;
+    }
+
+    private static String label(String value) {
+        return value.substring(0, 1).toUpperCase(Locale.US) + value.substring(1).toLowerCase(Locale.US);
+    }
+}
@@ -0,0 +1,317 @@
+package com.frandm.studytracker.ui.views.dashboard;
+
+import com.frandm.studytracker.client.ApiClient;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+final class SessionColumns {
+
+    static final String[] DAY_PERIODS = {"Morning", "Afternoon", "Evening", "Late night"};
+    static final SessionColumns EMPTY = of(List.of(), Set.of());
+
+    private static final int MEDIUM_SESSION_MINUTES = 45;
+    private static final int LONG_SESSION_MINUTES = 90;
+
+    record Aggregate(
+            int sessionCount, int totalMinutes, int activeDays, int longestMinutes,
+            int ratingSum, int ratedCount, int weekendMinutes, int firstDay,
+            int[] dayMinutes, int[] tagMinutes, int[] taskMinutes, int[] weekdayMinutes, int[] periodMinutes
+    ) {}
+
+    private final int size;
+    private final int[] epochDay;
+    private final int[] minutes;
+    private final short[] tag;
+    private final short[] task;
+    private final byte[] rating;
+    private final int[] startMinute;
+
+    private final List<String> tagNames;
+    private final List<String> tagColors;
+    private final List<String> taskNames;
+    private final Map<String, Integer> tagIds;
+    private final Map<String, Integer> taskIds;
+
+    private final BitSet[] tagMasks;
+    private final BitSet[] taskMasks;
+    private final BitSet shortMask;
+    private final BitSet mediumMask;
+    private final BitSet longMask;
+    private final BitSet weekendMask;
+    private final DailyIndex dailyIndex;
+
+    private SessionColumns(int size, int[] epochDay, int[] minutes, short[] tag, short[] task, byte[] rating, int[] startMinute,
+                           List<String> tagNames, List<String> tagColors, List<String> taskNames,
+                           Map<String, Integer> tagIds, Map<String, Integer> taskIds) {
+        this.size = size;
+        this.epochDay = epochDay;
+        this.minutes = minutes;
+        this.tag = tag;
+        this.task = task;
+        this.rating = rating;
+        this.startMinute = startMinute;
+        this.tagNames = tagNames;
+        this.tagColors = tagColors;
+        this.taskNames = taskNames;
+        this.tagIds = tagIds;
+        this.taskIds = taskIds;
+
+        tagMasks = new BitSet[tagNames.size()];
+        Arrays.setAll(tagMasks, _ -> new BitSet(size));
+        taskMasks = new BitSet[taskNames.size()];
+        Arrays.setAll(taskMasks, _ -> new BitSet(size));
+        shortMask = new BitSet(size);
+        mediumMask = new BitSet(size);
+        longMask = new BitSet(size);
+        weekendMask = new BitSet(size);
+
+        for (int i = 0; i < size; i++) {
+            tagMasks[tag[i]].set(i);
+            taskMasks[task[i]].set(i);
+            if (minutes[i] < MEDIUM_SESSION_MINUTES) shortMask.set(i);
+            else if (minutes[i] < LONG_SESSION_MINUTES) mediumMask.set(i);
+            else longMask.set(i);
+            if (weekdayIndex(epochDay[i]) >= 5) weekendMask.set(i);
+        }
+
+        dailyIndex = new DailyIndex(size, epochDay, minutes, tag, task, rating, startMinute, tagNames.size(), taskNames.size());
+    }
+
+    static SessionColumns of(List<Map<String, Object>> sessions, Set<String> excludedTags) {
+        int capacity = sessions.size();
+        int[] days = new int[capacity];
+        int[] mins = new int[capacity];
+        short[] tags = new short[capacity];
+        short[] tasks = new short[capacity];
+        byte[] ratings = new byte[capacity];
+        int[] starts = new int[capacity];
+
+        List<String> tagNames = new ArrayList<>();
+        List<String> tagColors = new ArrayList<>();
+        List<String> taskNames = new ArrayList<>();
+        Map<String, Integer> tagIds = new HashMap<>();
+        Map<String, Integer> taskIds = new HashMap<>();
+
+        int count = 0;
+        for (Map<String, Object> session : sessions) {
+            String tagName = session.get("tag") instanceof String name ? name : null;
+            if (tagName != null && excludedTags.contains(tagName)) continue;
+            LocalDateTime start = ApiClient.parseApiTimestamp(session.get("startDate"));
+            if (start == null) continue;
+
+            int tagId = intern(normalizeLabel(tagName, "No tag"), tagIds, tagNames);
+            if (tagId == tagColors.size()) tagColors.add(null);
+            if (tagColors.get(tagId) == null && session.get("tagColor") instanceof String color && !color.isBlank()) {
+                tagColors.set(tagId, color);
+            }
+            String taskName = session.get("task") instanceof String name ? name : null;
+            int taskId = intern(normalizeLabel(taskName, "No task"), taskIds, taskNames);
+
+            days[count] = (int) start.toLocalDate().toEpochDay();
+            mins[count] = session.get("totalMinutes") instanceof Number value ? value.intValue() : 0;
+            tags[count] = (short) tagId;
+            tasks[count] = (short) taskId;
+            ratings[count] = session.get("rating") instanceof Number value ? (byte) value.intValue() : 0;
+            starts[count] = start.getHour() * 60 + start.getMinute();
+            count++;
+        }
+
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) days[i] << 32) | i;
+        }
+        Arrays.sort(order);
+
+        int[] sortedDays = new int[count];
+        int[] sortedMinutes = new int[count];
+        short[] sortedTags = new short[count];
+        short[] sortedTasks = new short[count];
+        byte[] sortedRatings = new byte[count];
+        int[] sortedStarts = new int[count];
+        for (int i = 0; i < count; i++) {
+            int source = (int) order[i];
+            sortedDays[i] = days[source];
+            sortedMinutes[i] = mins[source];
+            sortedTags[i] = tags[source];
+            sortedTasks[i] = tasks[source];
+            sortedRatings[i] = ratings[source];
+            sortedStarts[i] = starts[source];
+        }
+
+        return new SessionColumns(count, sortedDays, sortedMinutes, sortedTags, sortedTasks, sortedRatings, sortedStarts,
+                tagNames, tagColors, taskNames, tagIds, taskIds);
+    }
+
+    int size() {
+        return size;
+    }
+
+    String tagName(int id) {
+        return tagNames.get(id);
+    }
+
+    String tagColor(int id) {
+        return tagColors.get(id);
+    }
+
+    String taskName(int id) {
+        return taskNames.get(id);
+    }
+
+    BitSet dateRange(LocalDate start, LocalDate end) {
+        int from = start == null ? 0 : lowerBound(start.toEpochDay());
+        int to = end == null ? size : lowerBound(end.toEpochDay() + 1);
+        BitSet selection = new BitSet(size);
+        if (from < to) selection.set(from, to);
+        return selection;
+    }
+
+    BitSet tagMask(String name) {
+        Integer id = tagIds.get(name);
+        return id == null ? new BitSet() : tagMasks[id];
+    }
+
+    BitSet taskMask(String name) {
+        Integer id = taskIds.get(name);
+        return id == null ? new BitSet() : taskMasks[id];
+    }
+
+    BitSet shortMask() {
+        return shortMask;
+    }
+
+    BitSet mediumMask() {
+        return mediumMask;
+    }
+
+    BitSet longMask() {
+        return longMask;
+    }
+
+    BitSet weekendMask() {
+        return weekendMask;
+    }
+
+    Map<String, List<String>> tasksByTag() {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (seen.add((tag[i] << 16) | task[i])) {
+                result.computeIfAbsent(tagNames.get(tag[i]), _ -> new ArrayList<>()).add(taskNames.get(task[i]));
+            }
+        }
+        return result;
+    }
+
+    Map<LocalDate, Integer> dailyMinutes() {
+        Map<LocalDate, Integer> result = new TreeMap<>();
+        int i = 0;
+        while (i < size) {
+            int day = epochDay[i];
+            int total = 0;
+            while (i < size && epochDay[i] == day) {
+                total += minutes[i++];
+            }
+            result.put(LocalDate.ofEpochDay(day), total);
+        }
+        return result;
+    }
+
+    Aggregate aggregateRange(LocalDate start, LocalDate end) {
+        return dailyIndex.query(start, end);
+    }
+
+    Aggregate aggregate(BitSet selection) {
+        int[] tagMinutes = new int[tagNames.size()];
+        int[] taskMinutes = new int[taskNames.size()];
+        int[] weekdayMinutes = new int[7];
+        int[] periodMinutes = new int[DAY_PERIODS.length];
+
+        int first = selection.nextSetBit(0);
+        if (first < 0 || first >= size) {
+            return new Aggregate(0, 0, 0, 0, 0, 0, 0, 0, new int[0], tagMinutes, taskMinutes, weekdayMinutes, periodMinutes);
+        }
+        int last = selection.previousSetBit(size - 1);
+        int firstDay = epochDay[first];
+        int[] dayMinutes = new int[epochDay[last] - firstDay + 1];
+
+        int count = 0;
+        int total = 0;
+        int longest = 0;
+        int ratingSum = 0;
+        int rated = 0;
+        int activeDays = 0;
+        int weekend = 0;
+        int previousDay = 0;
+        for (int i = first; i >= 0 && i < size; i = selection.nextSetBit(i + 1)) {
+            int day = epochDay[i];
+            int value = minutes[i];
+            count++;
+            total += value;
+            if (value > longest) longest = value;
+            if (rating[i] > 0) {
+                ratingSum += rating[i];
+                rated++;
+            }
+            if (activeDays == 0 || day != previousDay) {
+                activeDays++;
+                previousDay = day;
+            }
+            dayMinutes[day - firstDay] += value;
+            tagMinutes[tag[i]] += value;
+            taskMinutes[task[i]] += value;
+            int weekday = weekdayIndex(day);
+            weekdayMinutes[weekday] += value;
+            if (weekday >= 5) weekend += value;
+            periodMinutes[dayPeriodIndex(startMinute[i])] += value;
+        }
+
+        return new Aggregate(count, total, activeDays, longest, ratingSum, rated, weekend, firstDay,
+                dayMinutes, tagMinutes, taskMinutes, weekdayMinutes, periodMinutes);
+    }
+
+    private int lowerBound(long day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDay[mid] < day) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    static int weekdayIndex(int epochDay) {
+        return Math.floorMod(epochDay + 3, 7);
+    }
+
+    static int dayPeriodIndex(int minuteOfDay) {
+        int hour = minuteOfDay / 60;
+        if (hour >= 7 && hour < 14) return 0;
+        if (hour >= 14 && hour < 20) return 1;
+        if (hour >= 20) return 2;
+        return 3;
+    }
+
+    private static int intern(String name, Map<String, Integer> ids, List<String> names) {
+        return ids.computeIfAbsent(name, key -> {
+            names.add(key);
+            return names.size() - 1;
+        });
+    }
+
+    private static String normalizeLabel(String value, String fallback) {
+        return value == null || value.isBlank() ? fallback : value;
+    }
+}
@@ -1,13 +1,12 @@
 package com.frandm.studytracker.ui.views.dashboard;
 
 import com.frandm.studytracker.client.ApiClient;
+import com.frandm.studytracker.client.SyncMirror;
 import com.frandm.studytracker.core.Logger;
 import com.frandm.studytracker.core.TagEventBus;
-import com.frandm.studytracker.models.Session;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.geometry.HPos;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Cursor;
@@ -32,24 +31,28 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class StatsDashboardView {
 
@@ -57,6 +60,7 @@ public class StatsDashboardView {
     private static final String OPTION_ALL_TASKS = "All tasks";
     private static final String OPTION_ALL_SIZES = "Any duration";
     private static final String OPTION_ALL_DAY_TYPES = "Any day";
+    private static final int HEATMAP_WEEKS = 53;
     private static final DateTimeFormatter DAY_LABEL_FORMAT = DateTimeFormatter.ofPattern("MMM dd", Locale.US);
 
     private final ComboBox<String> rangePresetCombo;
@@ -89,14 +93,18 @@ public class StatsDashboardView {
     private final FlowPane breakdownPills;
     private final VBox heatmapCard;
 
-    private final Map<String, List<String>> tasksByTag = new LinkedHashMap<>();
-    private final java.util.Set<String> archivedTagNames = new java.util.HashSet<>();
-    private List<Session> allSessions = List.of();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()
+    );
+    private final AtomicLong renderVersion = new AtomicLong();
+    private final AtomicBoolean reloadPending = new AtomicBoolean(true);
+    private volatile DashboardData data = new DashboardData(SessionColumns.EMPTY, Map.of(), Map.of());
+    private DashboardData shownData;
+    private Map<String, List<String>> tasksByTag = Map.of();
     private boolean filtersBound;
     private boolean updatingFilterState;
 
-    private GridPane heatmapGrid;
-    private GridPane monthLabels;
+    private HeatmapCanvas heatmapCanvas;
     private ScrollPane heatmapScroll;
 
     public StatsDashboardView(ScrollPane host) {
@@ -282,94 +290,113 @@ public class StatsDashboardView {
         host.setFitToWidth(true);
         host.getStyleClass().add("dashboard-scroll");
         TagEventBus.getInstance().subscribe(_ -> Platform.runLater(this::refresh));
+        SyncMirror.getInstance().addListener(this::render);
     }
 
     public void refresh() {
-        loadArchivedTags();
-        allSessions = loadSessions();
-        loadCatalogs();
-        syncFilterOptions();
-        bindFilterEventsIfNeeded();
-
-        Map<LocalDate, Integer> globalHeatmapMinutes = new TreeMap<>();
-        for (Session s : allSessions) {
-            LocalDate date = extractSessionDate(s);
-            if (date != null) globalHeatmapMinutes.merge(date, s.getTotalMinutes(), Integer::sum);
-        }
-        updateHeatmap(globalHeatmapMinutes);
-
-        applyFiltersAndRender();
+        render();
+        SyncMirror.getInstance().syncAsync();
     }
 
-    private List<Session> loadSessions() {
-        try {
-            return ApiClient.getAllSessions().stream()
-                    .filter(sessionMap -> {
-                        String tagName = (String) sessionMap.get("tag");
-                        return tagName == null || !archivedTagNames.contains(tagName);
-                    })
-                    .map(sessionMap -> {
-                        Session session = new Session(
-                                ((Number) sessionMap.get("id")).intValue(),
-                                (String) sessionMap.get("tag"),
-                                (String) sessionMap.get("tagColor"),
-                                (String) sessionMap.get("task"),
-                                (String) sessionMap.get("title"),
-                                (String) sessionMap.get("description"),
-                                ((Number) sessionMap.get("totalMinutes")).intValue(),
-                                sessionMap.get("startDate") != null ? sessionMap.get("startDate").toString() : null,
-                                sessionMap.get("endDate") != null ? sessionMap.get("endDate").toString() : null
-                        );
-                        if (sessionMap.get("rating") != null) session.setRating(((Number) sessionMap.get("rating")).intValue());
-                        if (sessionMap.get("isFavorite") != null) session.setFavorite((Boolean) sessionMap.get("isFavorite"));
-                        return session;
-                    })
-                    .toList();
-        } catch (Exception ex) {
-            return List.of();
-        }
+    private void render() {
+        requestRender(true);
     }
 
-    private void loadCatalogs() {
-        tasksByTag.clear();
-        try {
-            ApiClient.getTags().forEach(tagMap -> {
-                String tagName = String.valueOf(tagMap.get("name"));
-                List<String> tasks;
-                try {
-                    tasks = ApiClient.getTasks(tagName).stream()
-                            .map(taskMap -> String.valueOf(taskMap.get("name")))
-                            .sorted()
-                            .toList();
-                } catch (Exception ignored) {
-                    tasks = new ArrayList<>();
-                }
-                tasksByTag.put(tagName, new ArrayList<>(tasks));
-            });
-        } catch (Exception ignored) {}
-
-        allSessions.forEach(session -> {
-            String tag = normalizeLabel(session.getTag(), "No tag");
-            String task = normalizeLabel(session.getTask(), "No task");
-            tasksByTag.computeIfAbsent(tag, _ -> new ArrayList<>());
-            if (!tasksByTag.get(tag).contains(task)) {
-                tasksByTag.get(tag).add(task);
+    private void requestRender(boolean reload) {
+        if (reload) reloadPending.set(true);
+        FilterState filter = buildFilterState();
+        long requestId = renderVersion.incrementAndGet();
+
+        executor.getQueue().clear();
+        executor.submit(() -> {
+            try {
+                if (reloadPending.getAndSet(false)) data = loadData();
+                DashboardData current = data;
+                if (requestId != renderVersion.get()) return;
+
+                SessionColumns columns = current.columns();
+                SessionColumns.Aggregate aggregate = isDateRangeOnly(filter)
+                        ? columns.aggregateRange(filter.startDate(), filter.endDate())
+                        : columns.aggregate(selectSessions(columns, filter));
+                DashboardSnapshot snapshot = buildSnapshot(columns, aggregate, filter);
+                if (requestId != renderVersion.get()) return;
+
+                Platform.runLater(() -> publish(requestId, current, filter, snapshot));
+            } catch (Exception e) {
+                Logger.error("Error computing dashboard", e);
             }
         });
     }
 
-    private void loadArchivedTags() {
-        archivedTagNames.clear();
-        try {
-            for (Map<String, Object> tag : ApiClient.getAllTags()) {
-                boolean isArchived = Boolean.TRUE.equals(tag.get("archived")) || Boolean.TRUE.equals(tag.get("isArchived"));
-                if (isArchived) {
-                    archivedTagNames.add((String) tag.get("name"));
-                }
+    private void publish(long requestId, DashboardData current, FilterState filter, DashboardSnapshot snapshot) {
+        if (requestId != renderVersion.get()) return;
+
+        if (current != shownData) {
+            shownData = current;
+            tasksByTag = current.tasksByTag();
+            syncFilterOptions();
+            bindFilterEventsIfNeeded();
+            updateHeatmap(current.heatmapMinutes());
+            if (!filter.equals(buildFilterState())) {
+                requestRender(false);
+                return;
             }
+        }
+
+        applyHeader(snapshot, filter, snapshot.sessionCount());
+        applyMetrics(snapshot);
+        updateTrendChart(snapshot.timelineMinutes());
+        updateWeekdayChart(snapshot.weekdayMinutes());
+        updateTagChart(snapshot.tagMinutes());
+        updateInsights(snapshot);
+    }
+
+    private DashboardData loadData() {
+        List<Map<String, Object>> catalog;
+        try {
+            catalog = SyncMirror.getInstance().getCatalog();
         } catch (Exception e) {
             Logger.error("Error loading archived tags", e);
+            catalog = List.of();
+        }
+
+        Set<String> archivedTagNames = new HashSet<>();
+        for (Map<String, Object> tag : catalog) {
+            if (ApiClient.parseBooleanFlag(tag.get("archived"))) {
+                archivedTagNames.add((String) tag.get("name"));
+            }
         }
+
+        SessionColumns columns = loadColumns(archivedTagNames);
+        return new DashboardData(columns, loadCatalogs(catalog, columns), columns.dailyMinutes());
+    }
+
+    private SessionColumns loadColumns(Set<String> archivedTagNames) {
+        try {
+            return SessionColumns.of(SyncMirror.getInstance().getStatsSessions(), archivedTagNames);
+        } catch (Exception ex) {
+            return SessionColumns.EMPTY;
+        }
+    }
+
+    private Map<String, List<String>> loadCatalogs(List<Map<String, Object>> catalog, SessionColumns columns) {
+        Map<String, List<String>> tasksByTag = new LinkedHashMap<>();
+        for (Map<String, Object> tagMap : catalog) {
+            if (ApiClient.parseBooleanFlag(tagMap.get("archived"))) continue;
+            String tagName = String.valueOf(tagMap.get("name"));
+            tasksByTag.put(tagName, new ArrayList<>(ApiClient.catalogTasks(tagMap).stream()
+                    .map(taskMap -> String.valueOf(taskMap.get("name")))
+                    .sorted()
+                    .toList()));
+        }
+
+        columns.tasksByTag().forEach((tag, tasks) -> {
+            List<String> known = tasksByTag.computeIfAbsent(tag, _ -> new ArrayList<>());
+            for (String task : tasks) {
+                if (!known.contains(task)) known.add(task);
+            }
+        });
+        return tasksByTag;
     }
 
     private void syncFilterOptions() {
@@ -465,18 +492,7 @@ public class StatsDashboardView {
     }
 
     private void applyFiltersAndRender() {
-        FilterState filter = buildFilterState();
-        List<Session> filteredSessions = allSessions.stream()
-                .filter(session -> matchesFilters(session, filter))
-                .toList();
-
-        DashboardSnapshot snapshot = buildSnapshot(filteredSessions, filter);
-        applyHeader(snapshot, filter, filteredSessions.size());
-        applyMetrics(snapshot);
-        updateTrendChart(snapshot.timelineMinutes());
-        updateWeekdayChart(snapshot.weekdayMinutes());
-        updateTagChart(snapshot.tagMinutes());
-        updateInsights(snapshot);
+        requestRender(false);
     }
 
     private FilterState buildFilterState() {
@@ -493,71 +509,71 @@ public class StatsDashboardView {
         );
     }
 
-    private boolean matchesFilters(Session session, FilterState filter) {
-        LocalDate date = extractSessionDate(session);
-        if (date == null) return false;
-        if (filter.startDate() != null && date.isBefore(filter.startDate())) return false;
-        if (filter.endDate() != null && date.isAfter(filter.endDate())) return false;
-        if (!OPTION_ALL_TAGS.equals(filter.tag()) && !Objects.equals(normalizeLabel(session.getTag(), "No tag"), filter.tag())) return false;
-        if (!OPTION_ALL_TASKS.equals(filter.task()) && !Objects.equals(normalizeLabel(session.getTask(), "No task"), filter.task())) return false;
-        if (!OPTION_ALL_SIZES.equals(filter.sizeBucket()) && !matchesSizeBucket(session.getTotalMinutes(), filter.sizeBucket())) return false;
-        return OPTION_ALL_DAY_TYPES.equals(filter.dayType()) || matchesDayType(date.getDayOfWeek(), filter.dayType());
+    private boolean isDateRangeOnly(FilterState filter) {
+        return OPTION_ALL_TAGS.equals(filter.tag()) && OPTION_ALL_TASKS.equals(filter.task())
+                && OPTION_ALL_SIZES.equals(filter.sizeBucket()) && OPTION_ALL_DAY_TYPES.equals(filter.dayType());
     }
 
-    private DashboardSnapshot buildSnapshot(List<Session> sessions, FilterState filter) {
-        int totalMinutes = sessions.stream().mapToInt(Session::getTotalMinutes).sum();
-        Set<LocalDate> activeDays = sessions.stream()
-                .map(this::extractSessionDate)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+    private BitSet selectSessions(SessionColumns columns, FilterState filter) {
+        BitSet selection = columns.dateRange(filter.startDate(), filter.endDate());
+        if (!OPTION_ALL_TAGS.equals(filter.tag())) selection.and(columns.tagMask(filter.tag()));
+        if (!OPTION_ALL_TASKS.equals(filter.task())) selection.and(columns.taskMask(filter.task()));
+        switch (filter.sizeBucket()) {
+            case "Short (<45m)" -> selection.and(columns.shortMask());
+            case "Medium (45-89m)" -> selection.and(columns.mediumMask());
+            case "Long (90m+)" -> selection.and(columns.longMask());
+            default -> {}
+        }
+        switch (filter.dayType()) {
+            case "Weekdays" -> selection.andNot(columns.weekendMask());
+            case "Weekends" -> selection.and(columns.weekendMask());
+            default -> {}
+        }
+        return selection;
+    }
 
-        double averageSessionMinutes = sessions.isEmpty() ? 0 : (double) totalMinutes / sessions.size();
-        double averageActiveDayMinutes = activeDays.isEmpty() ? 0 : (double) totalMinutes / activeDays.size();
-        int longestMinutes = sessions.stream().mapToInt(Session::getTotalMinutes).max().orElse(0);
-        double averageRating = sessions.stream().filter(s -> s.getRating() > 0).mapToInt(Session::getRating).average().orElse(0);
+    private DashboardSnapshot buildSnapshot(SessionColumns columns, SessionColumns.Aggregate aggregate, FilterState filter) {
+        int totalMinutes = aggregate.totalMinutes();
+        int sessionCount = aggregate.sessionCount();
+        double averageSessionMinutes = sessionCount == 0 ? 0 : (double) totalMinutes / sessionCount;
+        double averageActiveDayMinutes = aggregate.activeDays() == 0 ? 0 : (double) totalMinutes / aggregate.activeDays();
+        double averageRating = aggregate.ratedCount() == 0 ? 0 : (double) aggregate.ratingSum() / aggregate.ratedCount();
 
-        Map<LocalDate, Integer> minutesByDay = new TreeMap<>();
         Map<String, Integer> tagMinutes = new LinkedHashMap<>();
-        Map<String, Integer> taskMinutes = new LinkedHashMap<>();
         Map<String, String> tagColors = new LinkedHashMap<>();
-        Map<String, Integer> weekdayMinutes = orderedWeekdayMap();
-        Map<String, Integer> dayPeriodMinutes = orderedDayPeriodMap();
-
-        for (Session session : sessions) {
-            LocalDate date = extractSessionDate(session);
-            if (date == null) continue;
-
-            minutesByDay.merge(date, session.getTotalMinutes(), Integer::sum);
-            String tag = normalizeLabel(session.getTag(), "No tag");
-            String task = normalizeLabel(session.getTask(), "No task");
-
-            tagMinutes.merge(tag, session.getTotalMinutes(), Integer::sum);
-            taskMinutes.merge(task, session.getTotalMinutes(), Integer::sum);
+        int[] tagTotals = aggregate.tagMinutes();
+        for (int id = 0; id < tagTotals.length; id++) {
+            if (tagTotals[id] == 0) continue;
+            tagMinutes.put(columns.tagName(id), tagTotals[id]);
+            if (columns.tagColor(id) != null) tagColors.put(columns.tagName(id), columns.tagColor(id));
+        }
 
-            if (session.getTagColor() != null && !session.getTagColor().isBlank()) {
-                tagColors.putIfAbsent(tag, session.getTagColor());
-            }
+        Map<String, Integer> taskMinutes = new LinkedHashMap<>();
+        int[] taskTotals = aggregate.taskMinutes();
+        for (int id = 0; id < taskTotals.length; id++) {
+            if (taskTotals[id] > 0) taskMinutes.put(columns.taskName(id), taskTotals[id]);
+        }
 
-            String weekdayKey = capitalize(date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.US));
-            weekdayMinutes.merge(weekdayKey, session.getTotalMinutes(), Integer::sum);
-            dayPeriodMinutes.merge(resolveDayPeriod(session.getStartDateTime()), session.getTotalMinutes(), Integer::sum);
+        Map<String, Integer> weekdayMinutes = new LinkedHashMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            weekdayMinutes.put(capitalize(day.getDisplayName(TextStyle.SHORT, Locale.US)), aggregate.weekdayMinutes()[day.ordinal()]);
         }
 
-        LocalDate start = filter.startDate();
-        LocalDate end = filter.endDate();
-        if (start == null || end == null) {
-            LocalDate first = minutesByDay.keySet().stream().findFirst().orElse(LocalDate.now().minusDays(13));
-            LocalDate last = minutesByDay.keySet().stream().reduce((_, second) -> second).orElse(LocalDate.now());
-            start = start == null ? first : start;
-            end = end == null ? last : end;
+        Map<String, Integer> dayPeriodMinutes = new LinkedHashMap<>();
+        for (int i = 0; i < SessionColumns.DAY_PERIODS.length; i++) {
+            dayPeriodMinutes.put(SessionColumns.DAY_PERIODS[i], aggregate.periodMinutes()[i]);
         }
 
-        if (!start.isAfter(end)) {
-            LocalDate cursor = start;
-            while (!cursor.isAfter(end)) {
-                minutesByDay.putIfAbsent(cursor, 0);
-                cursor = cursor.plusDays(1);
-            }
+        int[] dayTotals = aggregate.dayMinutes();
+        boolean hasData = sessionCount > 0;
+        long startDay = filter.startDate() != null ? filter.startDate().toEpochDay()
+                : hasData ? aggregate.firstDay() : LocalDate.now().minusDays(13).toEpochDay();
+        long endDay = filter.endDate() != null ? filter.endDate().toEpochDay()
+                : hasData ? aggregate.firstDay() + dayTotals.length - 1 : LocalDate.now().toEpochDay();
+        Map<LocalDate, Integer> minutesByDay = new TreeMap<>();
+        for (long day = startDay; day <= endDay; day++) {
+            long offset = day - aggregate.firstDay();
+            minutesByDay.put(LocalDate.ofEpochDay(day), offset >= 0 && offset < dayTotals.length ? dayTotals[(int) offset] : 0);
         }
 
         Map.Entry<String, Integer> topTag = tagMinutes.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
@@ -566,15 +582,11 @@ public class StatsDashboardView {
         Map.Entry<String, Integer> topPeriod = dayPeriodMinutes.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
 
         double topTagShare = topTag == null || totalMinutes == 0 ? 0 : (double) topTag.getValue() / totalMinutes;
-        double weekendShare = totalMinutes == 0 ? 0 : (double) sessions.stream()
-                                                               .filter(s -> {
-                                                                   DayOfWeek day = Objects.requireNonNull(extractSessionDate(s)).getDayOfWeek();
-                                                                   return day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
-                                                               }).mapToInt(Session::getTotalMinutes).sum() / totalMinutes;
+        double weekendShare = totalMinutes == 0 ? 0 : (double) aggregate.weekendMinutes() / totalMinutes;
 
         return new DashboardSnapshot(
-                totalMinutes, sessions.size(), activeDays.size(), averageSessionMinutes,
-                averageActiveDayMinutes, longestMinutes, averageRating, tagMinutes, taskMinutes,
+                totalMinutes, sessionCount, aggregate.activeDays(), averageSessionMinutes,
+                averageActiveDayMinutes, aggregate.longestMinutes(), averageRating, tagMinutes, taskMinutes,
                 tagColors, minutesByDay, weekdayMinutes,
                 topTag != null ? topTag.getKey() : "No dominant focus", topTag != null ? topTag.getValue() : 0,
                 topTask != null ? topTask.getKey() : "No dominant task", topTask != null ? topTask.getValue() : 0,
@@ -706,43 +718,11 @@ public class StatsDashboardView {
     }
 
     private void updateHeatmap(Map<LocalDate, Integer> heatmapMinutes) {
-        if (heatmapGrid == null) initializeHeatmap();
-
-        int maxMinutes = heatmapMinutes.values().stream().max(Integer::compareTo).orElse(0);
-        heatmapGrid.getChildren().clear();
-        heatmapGrid.getColumnConstraints().clear();
-        monthLabels.getChildren().clear();
-        monthLabels.getColumnConstraints().clear();
-
-        addDayLabels();
+        if (heatmapCanvas == null) initializeHeatmap();
 
         LocalDate today = LocalDate.now();
-        LocalDate startDate = today.minusWeeks(52).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        int lastMonth = -1;
-
-        heatmapGrid.getColumnConstraints().add(new ColumnConstraints(38));
-        monthLabels.getColumnConstraints().add(new ColumnConstraints(38));
-
-        for (int week = 0; week < 53; week++) {
-            ColumnConstraints column = new ColumnConstraints(16);
-            column.setHalignment(HPos.LEFT);
-            heatmapGrid.getColumnConstraints().add(column);
-            monthLabels.getColumnConstraints().add(new ColumnConstraints(16));
-
-            boolean monthLabelAdded = false;
-            for (int day = 0; day < 7; day++) {
-                LocalDate date = startDate.plusWeeks(week).plusDays(day);
-                if (date.isAfter(today)) continue;
-                if (date.getMonthValue() != lastMonth) {
-                    if (!monthLabelAdded) {
-                        addMonthLabel(date, week + 1);
-                        monthLabelAdded = true;
-                    }
-                    lastMonth = date.getMonthValue();
-                }
-                heatmapGrid.add(createHeatmapRect(heatmapMinutes.getOrDefault(date, 0), maxMinutes, date), week + 1, day);
-            }
-        }
+        LocalDate startDate = today.minusWeeks(HEATMAP_WEEKS - 1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        heatmapCanvas.setData(startDate, HEATMAP_WEEKS, today, heatmapMinutes);
         Platform.runLater(() -> heatmapScroll.setHvalue(1.0));
     }
 
@@ -750,15 +730,8 @@ public class StatsDashboardView {
         VBox contentBox = new VBox(10);
         contentBox.getStyleClass().add("heatmap-container");
 
-        monthLabels = new GridPane();
-        monthLabels.getStyleClass().add("month-label-container");
-        monthLabels.setHgap(6);
-
-        heatmapGrid = new GridPane();
-        heatmapGrid.getStyleClass().add("heatmap-grid");
-        heatmapGrid.setHgap(6);
-        heatmapGrid.setVgap(6);
-        contentBox.getChildren().addAll(monthLabels, heatmapGrid);
+        heatmapCanvas = new HeatmapCanvas();
+        contentBox.getChildren().add(heatmapCanvas);
 
         heatmapScroll = new ScrollPane(contentBox);
         heatmapScroll.getStyleClass().add("heatmap-scroll");
@@ -778,59 +751,27 @@ public class StatsDashboardView {
         HBox legend = new HBox(6);
         legend.setAlignment(Pos.CENTER_RIGHT);
         legend.getStyleClass().add("dashboard-legend");
-        legend.getChildren().add(new Label("Less"));
+        Label lessLabel = new Label("Less");
+        legend.getChildren().add(lessLabel);
+        List<Rectangle> swatches = new ArrayList<>();
         for (String styleClass : List.of("cell-empty", "cell-low", "cell-medium", "cell-high", "cell-extreme")) {
             Rectangle cell = new Rectangle(12, 12);
             cell.setArcHeight(4);
             cell.setArcWidth(4);
             cell.getStyleClass().add(styleClass);
+            swatches.add(cell);
             legend.getChildren().add(cell);
         }
         legend.getChildren().add(new Label("More"));
 
-        heatmapCard.getChildren().addAll(heatmapScroll, legend);
-    }
-
-    private void addDayLabels() {
-        DayOfWeek[] days = {DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY};
-        int[] rows = {0, 2, 4};
-        for (int i = 0; i < days.length; i++) {
-            Label label = new Label(capitalize(days[i].getDisplayName(TextStyle.SHORT, Locale.US)));
-            label.getStyleClass().add("month-label");
-            heatmapGrid.add(label, 0, rows[i]);
-        }
-    }
-
-    private void addMonthLabel(LocalDate date, int weekColumn) {
-        Label label = new Label(capitalize(date.getMonth().getDisplayName(TextStyle.SHORT, Locale.US)));
-        label.getStyleClass().add("month-label");
-        GridPane.setHalignment(label, HPos.LEFT);
-        monthLabels.add(label, weekColumn, 0);
-        GridPane.setColumnSpan(label, 3);
-    }
-
-    private Rectangle createHeatmapRect(int minutes, int maxMinutes, LocalDate date) {
-        Rectangle rect = new Rectangle(15, 15);
-        rect.setArcHeight(5);
-        rect.setArcWidth(5);
-        rect.getStyleClass().add("heatmap-cell");
-
-        if (minutes == 0 || maxMinutes == 0) {
-            rect.getStyleClass().add("cell-empty");
-        } else {
-            double percentage = (double) minutes / maxMinutes;
-            if (percentage < 0.25) rect.getStyleClass().add("cell-low");
-            else if (percentage < 0.50) rect.getStyleClass().add("cell-medium");
-            else if (percentage < 0.75) rect.getStyleClass().add("cell-high");
-            else rect.getStyleClass().add("cell-extreme");
-        }
+        Runnable updateRamp = () -> heatmapCanvas.setRamp(
+                swatches.stream().map(swatch -> swatch.getFill() instanceof Color color ? color : Color.TRANSPARENT).toArray(Color[]::new),
+                lessLabel.getTextFill() instanceof Color color ? color : Color.GRAY
+        );
+        swatches.forEach(swatch -> swatch.fillProperty().addListener((_, _, _) -> updateRamp.run()));
+        lessLabel.textFillProperty().addListener((_, _, _) -> updateRamp.run());
 
-        Tooltip tooltip = new Tooltip(date.format(DateTimeFormatter.ofPattern("MMM dd yyyy", Locale.US)) + "\n" + formatHours(minutes));
-        tooltip.setShowDelay(Duration.ZERO);
-        tooltip.getStyleClass().add("heatmap-tooltip");
-        Tooltip.install(rect, tooltip);
-        rect.setCursor(Cursor.HAND);
-        return rect;
+        heatmapCard.getChildren().addAll(heatmapScroll, legend);
     }
 
     private HBox createDateRangeRow() {
@@ -930,54 +871,6 @@ public class StatsDashboardView {
         return String.format(Locale.US, "%.1fh", minutes / 60.0);
     }
 
-    private boolean matchesSizeBucket(int minutes, String bucket) {
-        return switch (bucket) {
-            case "Short (<45m)" -> minutes < 45;
-            case "Medium (45-89m)" -> minutes >= 45 && minutes < 90;
-            case "Long (90m+)" -> minutes >= 90;
-            default -> true;
-        };
-    }
-
-    private boolean matchesDayType(DayOfWeek day, String dayType) {
-        boolean weekend = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
-        return switch (dayType) {
-            case "Weekdays" -> !weekend;
-            case "Weekends" -> weekend;
-            default -> true;
-        };
-    }
-
-    private LocalDate extractSessionDate(Session session) {
-        return session != null && session.getStartDateTime() != null ? session.getStartDateTime().toLocalDate() : null;
-    }
-
-    private String resolveDayPeriod(LocalDateTime dateTime) {
-        if (dateTime == null) return "No time";
-        int hour = dateTime.getHour();
-        if (hour >= 7 && hour < 14) return "Morning";
-        if (hour >= 14 && hour < 20) return "Afternoon";
-        if (hour >= 20) return "Evening";
-        return "Late night";
-    }
-
-    private Map<String, Integer> orderedWeekdayMap() {
-        Map<String, Integer> map = new LinkedHashMap<>();
-        for (DayOfWeek day : DayOfWeek.values()) {
-            map.put(capitalize(day.getDisplayName(TextStyle.SHORT, Locale.US)), 0);
-        }
-        return map;
-    }
-
-    private Map<String, Integer> orderedDayPeriodMap() {
-        Map<String, Integer> map = new LinkedHashMap<>();
-        map.put("Morning", 0);
-        map.put("Afternoon", 0);
-        map.put("Evening", 0);
-        map.put("Late night", 0);
-        return map;
-    }
-
     private String buildFilterSummary(FilterState filter) {
         List<String> parts = new ArrayList<>();
         if (filter.startDate() != null || filter.endDate() != null) parts.add(resolvePeriodLabel(filter));
@@ -995,14 +888,14 @@ public class StatsDashboardView {
         return "Until " + filter.endDate().format(DAY_LABEL_FORMAT);
     }
 
-    private String normalizeLabel(String value, String fallback) {
-        return value == null || value.isBlank() ? fallback : value;
-    }
-
     private String capitalize(String value) {
         return value == null || value.isBlank() ? "" : value.substring(0, 1).toUpperCase(Locale.US) + value.substring(1).toLowerCase(Locale.US);
     }
 
+    private record DashboardData(
+            SessionColumns columns, Map<String, List<String>> tasksByTag, Map<LocalDate, Integer> heatmapMinutes
+    ) {}
+
     private record FilterState(
             LocalDate startDate, LocalDate endDate, String tag, String task,
             String sizeBucket, String dayType
@@ -1,8 +1,13 @@
 package com.frandm.studytracker.ui.views.logs;
 
 import com.frandm.studytracker.client.ApiClient;
+import com.frandm.studytracker.client.SyncMirror;
+import com.frandm.studytracker.client.WeekCache;
 import com.frandm.studytracker.core.Logger;
 import com.frandm.studytracker.models.Session;
+import com.frandm.studytracker.ui.util.CalendarDayHeader;
+import com.frandm.studytracker.ui.util.CalendarSessionBlock;
+import com.frandm.studytracker.ui.util.KeyedNodePool;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -12,7 +17,6 @@ import javafx.scene.shape.Circle;
 import org.kordamp.ikonli.javafx.FontIcon;
 
 import java.time.*;
-import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -26,11 +30,19 @@ public class CalendarTab extends VBox {
     private final LogsController logsController;
     private final double ROW_HEIGHT = 60.0;
     private static final double MIN_BLOCK_HEIGHT = 30.0;
+    private static final int WEEK_CACHE_SIZE = 8;
     private final Pane[] dayColumns = new Pane[7];
-    private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+    private final VBox[] dayColumnWrappers = new VBox[7];
+    private final CalendarDayHeader[] dayHeaders = new CalendarDayHeader[7];
+    private final KeyedNodePool<String, PlacedSession, CalendarSessionBlock> sessionBlocks =
+            new KeyedNodePool<>(this::createSessionBlock, this::bindSessionBlock);
+    private HBox timeIndicator;
+    private final WeekCache<List<Map<String, Object>>> weekCache = new WeekCache<>(WEEK_CACHE_SIZE);
     private List<Map<String, Object>> weekSessions = new ArrayList<>();
     private Label lblMonth;
 
+    private record PlacedSession(Map<String, Object> session, int dayIdx, int pos, int total) {}
+
     public CalendarTab(LogsController logsController) {
         this.currentWeekStart = LocalDate.now().with(DayOfWeek.MONDAY);
         this.logsController = logsController;
@@ -98,6 +110,8 @@ public class CalendarTab extends VBox {
         content.getStyleClass().add("calendar-root");
 
         this.getChildren().addAll(headerBar, content);
+        setupGridConstraints();
+        buildBaseGrid();
         loadAndRefresh();
         Platform.runLater(this::scrollToCurrentTime);
     }
@@ -113,14 +127,27 @@ public class CalendarTab extends VBox {
             refresh();
             return;
         }
-        loadWeekSessions();
+        List<Map<String, Object>> cached = weekCache.get(currentWeekStart);
+        weekSessions = cached != null ? cached : new ArrayList<>();
         refresh();
+        if (cached == null) {
+            loadCurrentWeekAsync();
+        }
+        prefetchAdjacentWeeks();
+    }
+
+    private void loadCurrentWeekAsync() {
+        LocalDate weekStart = currentWeekStart;
+        weekCache.getAsync(weekStart, this::fetchWeekSessions, ApiClient.executor())
+                .thenAccept(loaded -> Platform.runLater(() -> {
+                    if (loaded == null || !weekStart.equals(currentWeekStart)) return;
+                    weekSessions = loaded;
+                    refresh();
+                }));
     }
 
     public void refresh() {
-        calendarGrid.getChildren().clear();
-        setupGridConstraints();
-        renderBaseGrid();
+        updateBaseGrid();
         drawContent(weekSessions);
         drawTimeIndicator();
     }
@@ -145,11 +172,7 @@ public class CalendarTab extends VBox {
         }
     }
 
-    private void renderBaseGrid() {
-        LocalDate today = LocalDate.now();
-        headerGrid.getChildren().clear();
-        calendarGrid.getChildren().clear();
-
+    private void buildBaseGrid() {
         VBox timeColumn = new VBox();
         timeColumn.getStyleClass().add("calendar-time-column");
 
@@ -169,13 +192,12 @@ public class CalendarTab extends VBox {
         calendarGrid.add(timeColumn, 0, 0);
 
         for (int i = 0; i < 7; i++) {
-            LocalDate date = currentWeekStart.plusDays(i);
-            boolean isToday = date.equals(today);
-            headerGrid.add(createDayHeader(date, isToday), i + 1, 0);
+            dayHeaders[i] = new CalendarDayHeader();
+            headerGrid.add(dayHeaders[i], i + 1, 0);
 
             VBox dayColumnWrapper = new VBox();
             dayColumnWrapper.getStyleClass().add("day-column-wrapper");
-            if (isToday) dayColumnWrapper.getStyleClass().add("today-column");
+            dayColumnWrappers[i] = dayColumnWrapper;
 
             Pane columnCanvas = new Pane();
             columnCanvas.getStyleClass().add("calendar-column-canvas");
@@ -198,10 +220,32 @@ public class CalendarTab extends VBox {
             dayColumnWrapper.getChildren().add(columnCanvas);
             calendarGrid.add(dayColumnWrapper, i + 1, 0);
         }
+
+        timeIndicator = new HBox();
+        timeIndicator.setAlignment(Pos.CENTER_LEFT);
+        timeIndicator.setMouseTransparent(true);
+        Circle dot = new Circle(4);
+        dot.setStyle("-fx-fill: #e74c3c;");
+        Region line = new Region();
+        line.setStyle("-fx-background-color: #e74c3c; -fx-min-height: 2px; -fx-max-height: 2px;");
+        HBox.setHgrow(line, Priority.ALWAYS);
+        timeIndicator.getChildren().addAll(dot, line);
+    }
+
+    private void updateBaseGrid() {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 7; i++) {
+            LocalDate date = currentWeekStart.plusDays(i);
+            boolean isToday = date.equals(today);
+            dayHeaders[i].update(date, isToday);
+            dayColumnWrappers[i].getStyleClass().remove("today-column");
+            if (isToday) dayColumnWrappers[i].getStyleClass().add("today-column");
+        }
     }
 
     private void drawContent(List<Map<String, Object>> sessions) {
         Map<Integer, List<Map<String, Object>>> dayMap = new HashMap<>();
+        Map<String, KeyedNodePool.Placement<PlacedSession>> placements = new LinkedHashMap<>();
 
         for (Map<String, Object> s : sessions) {
             String startStr = getStartTime(s);
@@ -269,10 +313,14 @@ public class CalendarTab extends VBox {
             for (List<Map<String, Object>> group : groups) {
                 int size = group.size();
                 for (int i = 0; i < size; i++) {
-                    renderSession(group.get(i), dayIdx, i, size);
+                    Map<String, Object> item = group.get(i);
+                    LocalDate day = ((LocalDateTime) item.get("draw_start")).toLocalDate();
+                    placements.put("session:" + item.get("id") + ":" + day,
+                            new KeyedNodePool.Placement<>(dayColumns[dayIdx], new PlacedSession(item, dayIdx, i, size)));
                 }
             }
         }
+        sessionBlocks.reconcile(placements);
     }
 
     private void addSessionToMap(Map<Integer, List<Map<String, Object>>> dayMap, Map<String, Object> s) {
@@ -283,7 +331,21 @@ public class CalendarTab extends VBox {
         }
     }
 
-    private void renderSession(Map<String, Object> s, int dayIdx, int pos, int total) {
+    private CalendarSessionBlock createSessionBlock() {
+        CalendarSessionBlock block = new CalendarSessionBlock();
+        block.setOnMouseClicked(e -> {
+            if (e.getClickCount() == 1 && block.getUserData() instanceof PlacedSession placed) {
+                Map<String, Object> s = placed.session();
+                Session sessionObj = buildSession(s, (LocalDateTime) s.get("full_start"), (LocalDateTime) s.get("full_end"));
+                showContextMenu(block, sessionObj, e.getScreenX(), e.getScreenY());
+                e.consume();
+            }
+        });
+        return block;
+    }
+
+    private void bindSessionBlock(CalendarSessionBlock block, PlacedSession placed) {
+        Map<String, Object> s = placed.session();
         String taskName = (String) s.get("task_name");
         String tagName = (String) s.get("tag_name");
         String title = (String) s.get("title");
@@ -297,64 +359,18 @@ public class CalendarTab extends VBox {
         String color = s.getOrDefault("tag_color", "#94a3b8").toString();
         double height = Math.max(MIN_BLOCK_HEIGHT, Duration.between(drawStart, drawEnd).toMinutes() * (ROW_HEIGHT / 60.0));
 
-        HBox block = createSessionBlock(
+        block.update(
                 isFragment ? "" : (title != null && !title.isEmpty() ? title : taskName),
                 isFragment ? "" : tagName,
                 color, fullStart, fullEnd, height, isFragment);
+        block.setUserData(placed);
 
-        Session sessionObj = buildSession(s, fullStart, fullEnd);
-        block.setOnMouseClicked(e -> {
-            if (e.getClickCount() == 1) {
-                showContextMenu(block, sessionObj, e.getScreenX(), e.getScreenY());
-                e.consume();
-            }
-        });
-
+        Pane column = dayColumns[placed.dayIdx()];
         double yStart = (drawStart.getHour() * ROW_HEIGHT) + (drawStart.getMinute() * (ROW_HEIGHT / 60.0));
         block.setLayoutY(yStart);
         block.setPrefHeight(height - 2);
-        block.prefWidthProperty().bind(dayColumns[dayIdx].widthProperty().divide(total).subtract(2));
-        block.layoutXProperty().bind(dayColumns[dayIdx].widthProperty().divide(total).multiply(pos).add(1));
-
-        dayColumns[dayIdx].getChildren().add(block);
-    }
-
-    private HBox createSessionBlock(String title, String tag, String color, LocalDateTime start, LocalDateTime end, double bh, boolean frag) {
-        HBox sessionBlock = new HBox(2);
-        sessionBlock.getStyleClass().add("calendar-session-block");
-        sessionBlock.setStyle("-session-bg-color: " + color + "50; -session-color: " + color + ";");
-
-        Region colorBar = new Region();
-        colorBar.getStyleClass().add("session-color-bar");
-
-        VBox contenido = new VBox();
-        contenido.getStyleClass().add("session-content-container");
-
-        if (!frag) {
-            Label titleLabel = new Label(title);
-            titleLabel.getStyleClass().add("session-title");
-
-            HBox timeContainer = new HBox();
-            timeContainer.getStyleClass().add("session-time-container");
-            FontIcon timeIcon = new FontIcon("mdi2c-clock-outline");
-            timeIcon.getStyleClass().add("session-time-icon");
-            Label timeLabel = new Label(start.format(timeFormatter) + " - " + end.format(timeFormatter));
-            timeLabel.getStyleClass().add("session-time-label");
-            timeContainer.getChildren().addAll(timeIcon, timeLabel);
-
-            Label tagLabel = new Label(tag);
-            tagLabel.getStyleClass().add("session-tag-badge");
-
-            tagLabel.setVisible(bh > 65);
-            tagLabel.setManaged(bh > 65);
-            timeContainer.setVisible(bh > 45);
-            timeContainer.setManaged(bh > 45);
-
-            contenido.getChildren().addAll(titleLabel, timeContainer, tagLabel);
-        }
-        sessionBlock.getChildren().addAll(colorBar, contenido);
-        Tooltip.install(sessionBlock, new Tooltip(title + "\n" + start.format(timeFormatter) + " - " + end.format(timeFormatter)));
-        return sessionBlock;
+        block.prefWidthProperty().bind(column.widthProperty().divide(placed.total()).subtract(2));
+        block.layoutXProperty().bind(column.widthProperty().divide(placed.total()).multiply(placed.pos()).add(1));
     }
 
     private void showContextMenu(HBox block, Session session, double screenX, double screenY) {
@@ -408,36 +424,15 @@ public class CalendarTab extends VBox {
         return false;
     }
 
-    private VBox createDayHeader(LocalDate date, boolean isToday) {
-        Label lblName = new Label(date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.getDefault()).toUpperCase());
-        lblName.getStyleClass().add(isToday ? "calendar-day-name-today" : "calendar-day-name");
-        Label lblNum = new Label(String.valueOf(date.getDayOfMonth()));
-        lblNum.getStyleClass().add(isToday ? "calendar-day-num-today" : "calendar-day-num");
-        StackPane numStack = new StackPane();
-        Circle c = new Circle(14);
-        c.getStyleClass().add(isToday ? "calendar-today-circle" : "calendar-nottoday-circle");
-        numStack.getChildren().addAll(c, lblNum);
-        VBox v = new VBox(2, lblName, numStack);
-        v.setAlignment(Pos.TOP_CENTER);
-        v.setPadding(new Insets(10, 0, 10, 0));
-        return v;
-    }
-
     private void drawTimeIndicator() {
+        if (timeIndicator.getParent() instanceof Pane parent) {
+            parent.getChildren().remove(timeIndicator);
+        }
         LocalDate today = LocalDate.now();
         int dayIdx = (int) ChronoUnit.DAYS.between(currentWeekStart, today);
         if (dayIdx >= 0 && dayIdx < 7) {
             double yPos = (LocalTime.now().getHour() * ROW_HEIGHT) + (LocalTime.now().getMinute() * (ROW_HEIGHT / 60.0));
-            HBox timeIndicator = new HBox();
-            timeIndicator.setAlignment(Pos.CENTER_LEFT);
-            timeIndicator.setMouseTransparent(true);
             timeIndicator.setLayoutY(yPos - 4);
-            Circle dot = new Circle(4);
-            dot.setStyle("-fx-fill: #e74c3c;");
-            Region line = new Region();
-            line.setStyle("-fx-background-color: #e74c3c; -fx-min-height: 2px; -fx-max-height: 2px;");
-            HBox.setHgrow(line, Priority.ALWAYS);
-            timeIndicator.getChildren().addAll(dot, line);
             timeIndicator.prefWidthProperty().bind(dayColumns[dayIdx].widthProperty());
             dayColumns[dayIdx].getChildren().add(timeIndicator);
         }
@@ -449,16 +444,56 @@ public class CalendarTab extends VBox {
     }
 
     public void loadWeekSessions() {
+        weekCache.invalidateAll();
+        reloadCurrentWeek();
+    }
+
+    public void invalidateWeeks(Collection<LocalDate> days) {
+        boolean currentWeekChanged = false;
+        for (LocalDate day : days) {
+            weekCache.invalidate(day);
+            currentWeekChanged |= day.with(DayOfWeek.MONDAY).equals(currentWeekStart);
+        }
+        if (currentWeekChanged) {
+            reloadCurrentWeek();
+        }
+    }
+
+    private void reloadCurrentWeek() {
+        if (!ApiClient.isConfigured()) {
+            loadAndRefresh();
+            return;
+        }
+        loadCurrentWeekAsync();
+        prefetchAdjacentWeeks();
+    }
+
+    private void prefetchAdjacentWeeks() {
+        if (!ApiClient.isConfigured()) {
+            return;
+        }
+        weekCache.getAsync(currentWeekStart.plusWeeks(1), this::fetchWeekSessions, ApiClient.executor());
+        weekCache.getAsync(currentWeekStart.minusWeeks(1), this::fetchWeekSessions, ApiClient.executor());
+    }
+
+    private List<Map<String, Object>> fetchWeekSessions(LocalDate weekStart) {
         try {
-            weekSessions = ApiClient.getSessionsByRange(
-                    currentWeekStart.atStartOfDay().toString(),
-                    currentWeekStart.plusDays(6).atTime(23, 59, 59).toString()
+            SyncMirror mirror = SyncMirror.getInstance();
+            if (mirror.isPopulated()) {
+                return mirror.getSessions(
+                        weekStart.atStartOfDay(),
+                        weekStart.plusDays(6).atTime(23, 59, 59)
+                );
+            }
+            return ApiClient.getSessionsByRange(
+                    weekStart.atStartOfDay().toString(),
+                    weekStart.plusDays(6).atTime(23, 59, 59).toString()
             );
         } catch (Exception e) {
             if (ApiClient.isConfigured()) {
                 Logger.error("Error loading sessions", e);
             }
-            weekSessions = new ArrayList<>();
+            return null;
         }
     }
 
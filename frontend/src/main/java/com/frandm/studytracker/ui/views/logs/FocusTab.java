@@ -10,10 +10,11 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.util.Duration;
 import org.kordamp.ikonli.javafx.FontIcon;
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class FocusTab extends VBox {
     private final LogsController logsController;
@@ -25,6 +26,7 @@ public class FocusTab extends VBox {
     private final ComboBox<String> archiveFilterCombo;
     private String currentDetailTag;
     private String currentDetailColor = "#ffffff";
+    private final AtomicLong gridGeneration = new AtomicLong();
 
     public FocusTab(LogsController logsController) {
         this.logsController = logsController;
@@ -112,38 +114,61 @@ public class FocusTab extends VBox {
         detailRoot.setVisible(true);
         detailRoot.setManaged(true);
         detailTitleLabel.setText(tagName);
-        String color;
-        try {
-            color = ApiClient.getTags().stream()
+        currentDetailTag = tagName;
+        currentDetailColor = "#ffffff";
+        detailTitleLabel.setStyle("-fx-text-fill: " + currentDetailColor + ";");
+        tasksSummaryContainer.getChildren().clear();
+        totalStatsLabel.setText("");
+        ApiClient.getTagsAsync().whenComplete((tags, error) -> {
+            String color = error != null ? "#ffffff" : tags.stream()
                     .filter(t -> tagName.equals(t.get("name")))
                     .map(t -> (String) t.get("color"))
                     .findFirst()
                     .orElse("#ffffff");
-        } catch (Exception e) {
-            color = "#ffffff";
-        }
-        currentDetailTag = tagName;
-        currentDetailColor = color;
-        detailTitleLabel.setStyle("-fx-text-fill: " + color + ";");
-        loadTagSummary(tagName, color);
+            Platform.runLater(() -> {
+                if (!tagName.equals(currentDetailTag)) return;
+                currentDetailColor = color;
+                detailTitleLabel.setStyle("-fx-text-fill: " + color + ";");
+                loadTagSummary(tagName, color);
+            });
+        });
     }
 
     public void refreshFocusAreasGrid() {
-        focusAreasRoot.getChildren().removeIf(n -> n instanceof GridPane);
+        long generation = gridGeneration.incrementAndGet();
         if (!ApiClient.isConfigured()) {
+            Platform.runLater(() -> focusAreasRoot.getChildren().removeIf(n -> n instanceof GridPane));
             return;
         }
 
+        CompletableFuture<List<Map<String, Object>>> tagsFuture = ApiClient.getAllTagsAsync()
+                .exceptionally(error -> {
+                    if (ApiClient.isConfigured()) {
+                        Logger.error("Error loading tags", ApiClient.unwrap(error));
+                    }
+                    return List.of();
+                });
+        CompletableFuture<Map<String, Map<String, Object>>> totalsFuture = ApiClient.getTagTotalsAsync(null, null)
+                .exceptionally(error -> {
+                    if (ApiClient.isConfigured()) {
+                        Logger.error("Error loading tag totals", ApiClient.unwrap(error));
+                    }
+                    return Map.of();
+                });
+        tagsFuture.thenAcceptBoth(totalsFuture, (tags, totals) -> Platform.runLater(() -> {
+            if (generation == gridGeneration.get()) {
+                renderFocusAreasGrid(tags, totals);
+            }
+        }));
+    }
+
+    private void renderFocusAreasGrid(List<Map<String, Object>> tags, Map<String, Map<String, Object>> totals) {
+        focusAreasRoot.getChildren().removeIf(n -> n instanceof GridPane);
+
         String filter = archiveFilterCombo.getValue();
         Map<String, Map<String, Object>> allTags = new LinkedHashMap<>();
-        try {
-            for (Map<String, Object> t : ApiClient.getAllTags()) {
-                allTags.put((String) t.get("name"), t);
-            }
-        } catch (Exception e) {
-            if (ApiClient.isConfigured()) {
-                Logger.error("Error loading tags", e);
-            }
+        for (Map<String, Object> t : tags) {
+            allTags.put((String) t.get("name"), t);
         }
 
         Map<String, Map<String, Object>> filteredTags = new LinkedHashMap<>();
@@ -164,27 +189,9 @@ public class FocusTab extends VBox {
         }
 
         Map<String, Integer> tagTotals = new LinkedHashMap<>();
-        List<String> tagNames = new ArrayList<>(filteredTags.keySet());
-        List<java.util.concurrent.CompletableFuture<Void>> futures = new ArrayList<>();
-        for (String tagName : tagNames) {
-            java.util.concurrent.CompletableFuture<Void> future = java.util.concurrent.CompletableFuture.runAsync(() -> {
-                try {
-                    Map<String, Integer> summary = ApiClient.getSummaryByTag(tagName);
-                    int total = summary.values().stream().mapToInt(Integer::intValue).sum();
-                    synchronized (tagTotals) {
-                        tagTotals.put(tagName, total);
-                    }
-                } catch (Exception e) {
-                    synchronized (tagTotals) {
-                        tagTotals.put(tagName, 0);
-                    }
-                }
-            });
-            futures.add(future);
-        }
-        java.util.concurrent.CompletableFuture.allOf(futures.toArray(new java.util.concurrent.CompletableFuture[0])).join();
+        totals.forEach((tagName, tagTotal) -> tagTotals.put(tagName, ApiClient.tagTotalMinutes(tagTotal)));
 
-        int maxTotal = tagTotals.values().stream().mapToInt(Integer::intValue).max().orElse(1);
+        int maxTotal = filteredTags.keySet().stream().mapToInt(name -> tagTotals.getOrDefault(name, 0)).max().orElse(1);
         if (maxTotal == 0) maxTotal = 1;
 
         GridPane grid = new GridPane();
@@ -359,16 +366,23 @@ public class FocusTab extends VBox {
     }
 
     private void loadTagSummary(String tagName, String tagColor) {
+        ApiClient.getTagTotalsAsync(null, null)
+                .thenApply(totals -> ApiClient.tagTotalTasks(totals.get(tagName)))
+                .whenComplete((summary, error) -> {
+                    if (error != null && ApiClient.isConfigured()) {
+                        Logger.error("Error loading summary", ApiClient.unwrap(error));
+                    }
+                    Map<String, Integer> loaded = error != null ? new LinkedHashMap<>() : summary;
+                    Platform.runLater(() -> {
+                        if (tagName.equals(currentDetailTag)) {
+                            renderTagSummary(tagName, tagColor, loaded);
+                        }
+                    });
+                });
+    }
+
+    private void renderTagSummary(String tagName, String tagColor, Map<String, Integer> summary) {
         tasksSummaryContainer.getChildren().clear();
-        Map<String, Integer> summary;
-        try {
-            summary = ApiClient.getSummaryByTag(tagName);
-        } catch (Exception e) {
-            if (ApiClient.isConfigured()) {
-                Logger.error("Error loading summary", e);
-            }
-            summary = new LinkedHashMap<>();
-        }
 
         int totalMinutes = summary.values().stream().mapToInt(Integer::intValue).sum();
         int sessions = summary.size();
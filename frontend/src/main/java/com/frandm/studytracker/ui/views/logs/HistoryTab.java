@@ -1,8 +1,12 @@
 package com.frandm.studytracker.ui.views.logs;
 
 import com.frandm.studytracker.client.ApiClient;
+import com.frandm.studytracker.client.SyncMirror;
 import com.frandm.studytracker.core.Logger;
 import com.frandm.studytracker.models.Session;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.geometry.Side;
@@ -11,105 +15,127 @@ import javafx.scene.layout.*;
 import org.kordamp.ikonli.javafx.FontIcon;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class HistoryTab extends VBox {
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMM");
+    private static final DateTimeFormatter FULL_DATE_FORMAT = DateTimeFormatter.ofPattern("EEEE, dd MMMM");
+    private static final Comparator<HistoryRow> ROW_ORDER = Comparator.comparing(HistoryTab::rowKey).reversed();
+
+    private sealed interface HistoryRow permits DayHeader, SessionRow {}
+
+    private record DayHeader(LocalDate date, long totalMinutes, String statusMessage) implements HistoryRow {}
+
+    private record SessionRow(Session session, LocalDateTime start) implements HistoryRow {}
+
+    private record SessionPage(List<Session> sessions, String cursor) {}
+
     private final LogsController logsController;
-    private final VBox sessionsContainer;
+    private final ObservableList<HistoryRow> rows = FXCollections.observableArrayList();
+    private final Map<LocalDate, Long> dayTotals = new HashMap<>();
+    private final Set<Integer> expandedSessionIds = new HashSet<>();
     private final Button loadMoreBtn;
 
-    private int currentOffset = 0;
+    private String nextCursor = null;
     private final int PAGE_SIZE = 50;
-    private VBox lastSessionsContainer = null;
-    private final List<Session> allLoadedSessions = new ArrayList<>();
     private boolean hasMoreData = true;
+    private boolean loading;
+    private long loadGeneration;
 
     public HistoryTab(LogsController logsController) {
         this.logsController = logsController;
         this.getStyleClass().add("history-content-root");
 
-        sessionsContainer = new VBox();
-        sessionsContainer.getStyleClass().add("sessions-main-container");
+        ListView<HistoryRow> sessionsList = new ListView<>(rows);
+        sessionsList.getStyleClass().addAll("history-list", "sessions-main-container");
+        sessionsList.setCellFactory(_ -> new HistoryCell());
+        sessionsList.setFocusTraversable(false);
+        Label noSessions = new Label("No sessions found");
+        noSessions.getStyleClass().add("no-sessions-label");
+        sessionsList.setPlaceholder(noSessions);
+        VBox.setVgrow(sessionsList, Priority.ALWAYS);
 
         loadMoreBtn = new Button("Load more");
         loadMoreBtn.getStyleClass().add("button-secondary");
         loadMoreBtn.setOnAction(_ -> loadMore());
 
-        VBox scrollContent = new VBox(sessionsContainer, loadMoreBtn);
-        scrollContent.getStyleClass().add("history-scroll-content");
-
-        ScrollPane historyScroll = new ScrollPane(scrollContent);
-        historyScroll.setFitToWidth(true);
-        historyScroll.getStyleClass().add("calendar-root");
-        VBox.setVgrow(historyScroll, Priority.ALWAYS);
-
-        this.getChildren().addAll(historyScroll);
-    }
+        VBox historyContent = new VBox(sessionsList, loadMoreBtn);
+        historyContent.getStyleClass().addAll("calendar-root", "history-scroll-content");
+        VBox.setVgrow(historyContent, Priority.ALWAYS);
 
-    private static LocalDateTime parseDate(Session session) {
-        return session != null ? session.getStartDateTime() : null;
+        this.getChildren().addAll(historyContent);
     }
 
-    private static LocalDate extractSessionDate(Session session) {
-        LocalDateTime dateTime = parseDate(session);
-        return dateTime != null ? dateTime.toLocalDate() : null;
+    private static LocalDateTime rowKey(HistoryRow row) {
+        return switch (row) {
+            case DayHeader header -> header.date().atTime(LocalTime.MAX);
+            case SessionRow sessionRow -> sessionRow.start();
+        };
     }
 
-
-
-
-
-
-
     public void reload() {
-        currentOffset = 0;
-        allLoadedSessions.clear();
-        sessionsContainer.getChildren().clear();
-        lastSessionsContainer = null;
+        loadGeneration++;
+        loading = false;
+        nextCursor = null;
+        rows.clear();
+        dayTotals.clear();
+        expandedSessionIds.clear();
         hasMoreData = true;
         loadMoreBtn.setVisible(true);
         loadMore();
     }
 
-
-
-    private List<Session> sortSessions(List<Session> sessions) {
-        List<Session> sorted = new ArrayList<>(sessions);
-        sorted.sort(Comparator.comparing(Session::getStartDateTime).reversed());
-        return sorted;
-    }
-
-    private Map<LocalDate, List<Session>> groupSessionsByDate(List<Session> sessions) {
-        Map<LocalDate, List<Session>> grouped = new LinkedHashMap<>();
-        for (Session s : sessions) {
-            LocalDate date = extractSessionDate(s);
-            if (date == null) continue;
-            grouped.computeIfAbsent(date, _ -> new ArrayList<>()).add(s);
-        }
-        for (List<Session> daySessions : grouped.values()) {
-            daySessions.sort(Comparator.comparing(Session::getStartDateTime).reversed());
-        }
-        return grouped;
-    }
-
     private void loadMore() {
-        if (!hasMoreData) return;
+        if (!hasMoreData || loading) return;
         if (!ApiClient.isConfigured()) {
             hasMoreData = false;
             loadMoreBtn.setVisible(false);
             return;
         }
 
-        List<Session> newSessions;
+        loading = true;
+        loadMoreBtn.setDisable(true);
+        long generation = loadGeneration;
+        String cursor = nextCursor;
+        CompletableFuture.supplyAsync(() -> fetchPage(cursor), ApiClient.executor())
+                .whenComplete((page, error) -> Platform.runLater(() -> {
+                    if (generation != loadGeneration) return;
+                    loading = false;
+                    loadMoreBtn.setDisable(false);
+                    if (error != null) {
+                        if (ApiClient.isConfigured()) {
+                            Logger.error("Error loading sessions", ApiClient.unwrap(error));
+                        }
+                        hasMoreData = false;
+                    } else {
+                        if (page.cursor() != null) {
+                            nextCursor = page.cursor();
+                        }
+                        hasMoreData = page.sessions().size() == PAGE_SIZE;
+                        appendSessions(page.sessions());
+                    }
+                    loadMoreBtn.setVisible(hasMoreData);
+                }));
+    }
+
+    private SessionPage fetchPage(String cursor) {
         try {
-            List<Map<String, Object>> content = ApiClient.getSessions(null, null, currentOffset / PAGE_SIZE);
-            newSessions = content.stream().map(m -> {
+            SyncMirror mirror = SyncMirror.getInstance();
+            List<Map<String, Object>> content = mirror.isPopulated()
+                    ? mirror.getSessionsPage(cursor, PAGE_SIZE)
+                    : ApiClient.getSessions(null, null, cursor, PAGE_SIZE);
+            List<Session> sessions = content.stream().map(m -> {
                 Map<?, ?> task = (Map<?, ?>) m.get("task");
                 Map<?, ?> tag = (Map<?, ?>) task.get("tag");
                 Session s = new Session(
@@ -126,189 +152,238 @@ public class HistoryTab extends VBox {
                 if (m.get("rating") != null) s.setRating(((Number) m.get("rating")).intValue());
                 return s;
             }).toList();
-
-            hasMoreData = newSessions.size() == PAGE_SIZE;
+            return new SessionPage(sessions, content.isEmpty() ? null : ApiClient.sessionCursor(content.getLast()));
         } catch (Exception e) {
-            if (ApiClient.isConfigured()) {
-                Logger.error("Error loading sessions", e);
-            }
-            newSessions = new ArrayList<>();
-            hasMoreData = false;
+            throw new CompletionException(e);
         }
-
-        allLoadedSessions.addAll(newSessions);
-        currentOffset += PAGE_SIZE;
-
-        applyFiltersAndRender();
-    }
-
-    private void applyFiltersAndRender() {
-        List<Session> sortedSessions = sortSessions(allLoadedSessions);
-        renderSessions(sortedSessions);
-        loadMoreBtn.setVisible(hasMoreData);
     }
 
-    private void renderSessions(List<Session> filteredSessions) {
-        sessionsContainer.getChildren().clear();
-        lastSessionsContainer = null;
+    private void appendSessions(List<Session> sessions) {
+        List<HistoryRow> page = new ArrayList<>();
+        Map<LocalDate, Integer> pageHeaders = new HashMap<>();
+        for (Session session : sessions) {
+            LocalDateTime start = session.getStartDateTime();
+            if (start == null) continue;
+
+            LocalDate date = start.toLocalDate();
+            long total = dayTotals.merge(date, (long) session.getTotalMinutes(), Long::sum);
+            DayHeader header = new DayHeader(date, total, null);
+            Integer pending = pageHeaders.get(date);
+            if (pending != null) {
+                page.set(pending, header);
+            } else if (Collections.binarySearch(rows, header, ROW_ORDER) >= 0) {
+                putHeader(header);
+            } else {
+                pageHeaders.put(date, page.size());
+                page.add(header);
+            }
+            page.add(new SessionRow(session, start));
+        }
+        rows.addAll(page);
 
         LocalDate today = LocalDate.now();
-
-        if (filteredSessions.isEmpty()) {
-            Label noSessions = new Label("No sessions found");
-            noSessions.getStyleClass().add("no-sessions-label");
-            sessionsContainer.getChildren().add(noSessions);
-            return;
+        if (!rows.isEmpty() && !dayTotals.containsKey(today)) {
+            putHeader(new DayHeader(today, 0, "No sessions registered for today"));
         }
+    }
 
-        LocalDate firstSessionDate = extractSessionDate(filteredSessions.getFirst());
-        boolean hasTodaySessions = today.equals(firstSessionDate);
-        if (!hasTodaySessions && currentOffset <= PAGE_SIZE) {
-            createNewDayBlock(today, 0, "No sessions registered for today");
+    private void putHeader(DayHeader header) {
+        int index = Collections.binarySearch(rows, header, ROW_ORDER);
+        if (index >= 0) {
+            if (!rows.get(index).equals(header)) rows.set(index, header);
+        } else {
+            rows.add(-index - 1, header);
         }
+    }
 
-        Map<LocalDate, List<Session>> grouped = groupSessionsByDate(filteredSessions);
-
-        List<LocalDate> sortedDates = new ArrayList<>(grouped.keySet());
-        sortedDates.sort(Comparator.reverseOrder());
-
-        for (LocalDate date : sortedDates) {
-            List<Session> daySessions = grouped.get(date);
-            long totalMinutes = daySessions.stream().mapToLong(Session::getTotalMinutes).sum();
-            createNewDayBlock(date, totalMinutes, null);
-            for (Session s : daySessions) {
-                if (lastSessionsContainer != null) {
-                    lastSessionsContainer.getChildren().add(createTimelineCard(s));
+    private final class HistoryCell extends ListCell<HistoryRow> {
+        private DayHeaderView headerView;
+        private SessionCardView cardView;
+
+        @Override
+        protected void updateItem(HistoryRow row, boolean empty) {
+            super.updateItem(row, empty);
+            setText(null);
+            if (empty || row == null) {
+                setGraphic(null);
+                return;
+            }
+            switch (row) {
+                case DayHeader header -> {
+                    if (headerView == null) headerView = new DayHeaderView();
+                    headerView.bind(header);
+                    setGraphic(headerView);
+                }
+                case SessionRow sessionRow -> {
+                    if (cardView == null) cardView = new SessionCardView();
+                    cardView.bind(sessionRow.session());
+                    setGraphic(cardView);
                 }
             }
         }
     }
 
-    private void createNewDayBlock(LocalDate date, long totalMinutes, String statusMessage) {
-        HBox dayHeader = new HBox(15);
-        dayHeader.getStyleClass().add("history-day-header");
-        dayHeader.setAlignment(Pos.CENTER_LEFT);
-
-        StackPane circle = new StackPane();
-        circle.getStyleClass().add("timeline-date-circle");
-
-        VBox dateTextCont = new VBox(-2);
-        dateTextCont.setAlignment(Pos.CENTER);
-        Label dayNum = new Label(String.valueOf(date.getDayOfMonth()));
-        dayNum.getStyleClass().add("timeline-day-num");
-        Label dayLabel = new Label(date.format(DateTimeFormatter.ofPattern("MMM")).toUpperCase());
-        dayLabel.getStyleClass().add("timeline-day-month");
-        dateTextCont.getChildren().addAll(dayNum, dayLabel);
-        circle.getChildren().add(dateTextCont);
-
-        VBox dayInfo = new VBox(2);
-        dayInfo.setAlignment(Pos.CENTER_LEFT);
-        Label dateFull = new Label(date.format(DateTimeFormatter.ofPattern("EEEE, dd MMMM")));
-        dateFull.getStyleClass().add("day-full-label");
-
-        long h = totalMinutes / 60;
-        long m = totalMinutes % 60;
-        Label totalLabel = new Label(String.format("%dh %02dm", h, m));
-        totalLabel.getStyleClass().add("day-total-label");
-
-        dayInfo.getChildren().addAll(dateFull, totalLabel);
-        dayHeader.getChildren().addAll(circle, dayInfo);
-
-        if (statusMessage != null) {
-            Label statusLabel = new Label(statusMessage);
+    private static final class DayHeaderView extends HBox {
+        private final Label dayNum = new Label();
+        private final Label dayLabel = new Label();
+        private final Label dateFull = new Label();
+        private final Label totalLabel = new Label();
+        private final Label statusLabel = new Label();
+
+        DayHeaderView() {
+            super(15);
+            getStyleClass().add("history-day-header");
+            setAlignment(Pos.CENTER_LEFT);
+
+            StackPane circle = new StackPane();
+            circle.getStyleClass().add("timeline-date-circle");
+
+            VBox dateTextCont = new VBox(-2);
+            dateTextCont.setAlignment(Pos.CENTER);
+            dayNum.getStyleClass().add("timeline-day-num");
+            dayLabel.getStyleClass().add("timeline-day-month");
+            dateTextCont.getChildren().addAll(dayNum, dayLabel);
+            circle.getChildren().add(dateTextCont);
+
+            VBox dayInfo = new VBox(2);
+            dayInfo.setAlignment(Pos.CENTER_LEFT);
+            dateFull.getStyleClass().add("day-full-label");
+            totalLabel.getStyleClass().add("day-total-label");
+            dayInfo.getChildren().addAll(dateFull, totalLabel);
+
             statusLabel.getStyleClass().add("today-status-inline");
-            dayHeader.getChildren().add(statusLabel);
+
+            getChildren().addAll(circle, dayInfo, statusLabel);
         }
 
-        lastSessionsContainer = new VBox(15);
-        lastSessionsContainer.getStyleClass().add("day-sessions-container-clean");
-        sessionsContainer.getChildren().addAll(dayHeader, lastSessionsContainer);
+        void bind(DayHeader header) {
+            LocalDate date = header.date();
+            dayNum.setText(String.valueOf(date.getDayOfMonth()));
+            dayLabel.setText(date.format(MONTH_FORMAT).toUpperCase());
+            dateFull.setText(date.format(FULL_DATE_FORMAT));
+            totalLabel.setText(String.format("%dh %02dm", header.totalMinutes() / 60, header.totalMinutes() % 60));
+
+            boolean hasStatus = header.statusMessage() != null;
+            statusLabel.setText(hasStatus ? header.statusMessage() : "");
+            statusLabel.setVisible(hasStatus);
+            statusLabel.setManaged(hasStatus);
+        }
     }
 
-    private VBox createTimelineCard(Session s) {
-        VBox card = new VBox();
-        card.getStyleClass().add("timeline-card");
-
-        HBox header = new HBox();
-        header.getStyleClass().add("timeline-card-header");
-        Label sessionTitle = new Label(s.getTitle());
-        sessionTitle.getStyleClass().add("timeline-card-title");
-
-        Region spacer = new Region();
-        HBox.setHgrow(spacer, Priority.ALWAYS);
-
-        String start = s.getStartDate().substring(11, 16);
-        String end = s.getEndDate().substring(11, 16);
-        Label timeRange = new Label(start + " — " + end);
-        timeRange.getStyleClass().add("timeline-card-time");
-
-        Label duration = new Label(s.getTotalMinutes() + "m");
-        duration.getStyleClass().add("timeline-card-duration");
-
-        Button optionsBtn = new Button();
-        optionsBtn.getStyleClass().add("card-options-button");
-        FontIcon optionsIcon = new FontIcon("mdi2d-dots-horizontal");
-        optionsIcon.getStyleClass().add("options-icon");
-        optionsBtn.setGraphic(optionsIcon);
-
-        ContextMenu contextMenu = new ContextMenu();
-        contextMenu.getStyleClass().add(logsController.getTheme());
-
-        MenuItem editItem = new MenuItem("Edit");
-        editItem.setGraphic(new FontIcon("mdi2p-pencil"));
-        editItem.setOnAction(_ -> logsController.requestEdit(s));
-
-        MenuItem deleteItem = new MenuItem("Delete");
-        deleteItem.setGraphic(new FontIcon("mdi2t-trash-can-outline"));
-        deleteItem.getStyleClass().add("menu-item-delete");
-        deleteItem.setOnAction(_ -> logsController.requestDelete(s));
-
-        contextMenu.getItems().addAll(editItem, deleteItem);
-        optionsBtn.setOnAction(_ -> contextMenu.show(optionsBtn, Side.BOTTOM, 0, 0));
-
-        header.getChildren().addAll(sessionTitle, timeRange, duration, spacer, optionsBtn);
-
-        HBox badges = new HBox();
-        badges.getStyleClass().add("timeline-card-badges");
-        Label tagBadge = new Label(s.getTag());
-        tagBadge.getStyleClass().add("task-badge");
-        tagBadge.setStyle("-fx-border-color: " + s.getTagColor() + "; -fx-text-fill: " + s.getTagColor() + ";");
-        Label taskBadge = new Label(s.getTask());
-        taskBadge.getStyleClass().add("task-badge");
-        badges.getChildren().addAll(tagBadge, taskBadge);
-
-        VBox details = new VBox(12);
-        details.setManaged(false);
-        details.setVisible(false);
-        details.setPadding(new Insets(10, 0, 0, 0));
-
-        HBox stars = new HBox();
-        stars.setAlignment(Pos.CENTER_LEFT);
-        stars.getStyleClass().add("timeline-card-rating");
-        for (int i = 1; i <= 5; i++) {
-            FontIcon star = new FontIcon("fas-star");
-            star.setIconSize(12);
-            star.setCursor(javafx.scene.Cursor.HAND);
-            if (i <= s.getRating()) star.getStyleClass().add("selectedStarHistory");
-            else star.getStyleClass().add("unselectedStarHistory");
-            stars.getChildren().add(star);
-        }
+    private final class SessionCardView extends VBox {
+        private final VBox card = new VBox();
+        private final Label sessionTitle = new Label();
+        private final Label timeRange = new Label();
+        private final Label duration = new Label();
+        private final Label tagBadge = new Label();
+        private final Label taskBadge = new Label();
+        private final List<FontIcon> stars = new ArrayList<>();
+        private final Label desc = new Label();
+        private final VBox details = new VBox(12);
+        private Session session;
+
+        SessionCardView() {
+            getStyleClass().add("history-session-row");
+            card.getStyleClass().add("timeline-card");
+
+            HBox header = new HBox();
+            header.getStyleClass().add("timeline-card-header");
+            sessionTitle.getStyleClass().add("timeline-card-title");
+
+            Region spacer = new Region();
+            HBox.setHgrow(spacer, Priority.ALWAYS);
+
+            timeRange.getStyleClass().add("timeline-card-time");
+            duration.getStyleClass().add("timeline-card-duration");
+
+            Button optionsBtn = new Button();
+            optionsBtn.getStyleClass().add("card-options-button");
+            FontIcon optionsIcon = new FontIcon("mdi2d-dots-horizontal");
+            optionsIcon.getStyleClass().add("options-icon");
+            optionsBtn.setGraphic(optionsIcon);
+
+            ContextMenu contextMenu = new ContextMenu();
+
+            MenuItem editItem = new MenuItem("Edit");
+            editItem.setGraphic(new FontIcon("mdi2p-pencil"));
+            editItem.setOnAction(_ -> logsController.requestEdit(session));
+
+            MenuItem deleteItem = new MenuItem("Delete");
+            deleteItem.setGraphic(new FontIcon("mdi2t-trash-can-outline"));
+            deleteItem.getStyleClass().add("menu-item-delete");
+            deleteItem.setOnAction(_ -> logsController.requestDelete(session));
+
+            contextMenu.getItems().addAll(editItem, deleteItem);
+            optionsBtn.setOnAction(_ -> {
+                contextMenu.getStyleClass().setAll("context-menu", logsController.getTheme());
+                contextMenu.show(optionsBtn, Side.BOTTOM, 0, 0);
+            });
+
+            header.getChildren().addAll(sessionTitle, timeRange, duration, spacer, optionsBtn);
+
+            HBox badges = new HBox();
+            badges.getStyleClass().add("timeline-card-badges");
+            tagBadge.getStyleClass().add("task-badge");
+            taskBadge.getStyleClass().add("task-badge");
+            badges.getChildren().addAll(tagBadge, taskBadge);
+
+            details.setManaged(false);
+            details.setVisible(false);
+            details.setPadding(new Insets(10, 0, 0, 0));
+
+            HBox starsBox = new HBox();
+            starsBox.setAlignment(Pos.CENTER_LEFT);
+            starsBox.getStyleClass().add("timeline-card-rating");
+            for (int i = 1; i <= 5; i++) {
+                FontIcon star = new FontIcon("fas-star");
+                star.setIconSize(12);
+                star.setCursor(javafx.scene.Cursor.HAND);
+                stars.add(star);
+                starsBox.getChildren().add(star);
+            }
 
-        Label desc = new Label(s.getDescription());
-        desc.setWrapText(true);
-        desc.getStyleClass().add("timeline-card-description");
+            desc.setWrapText(true);
+            desc.getStyleClass().add("timeline-card-description");
 
-        details.getChildren().addAll(stars, desc);
+            details.getChildren().addAll(starsBox, desc);
 
-        card.setOnMouseClicked(_ -> {
-            boolean isExpanded = details.isVisible();
-            details.setVisible(!isExpanded);
-            details.setManaged(!isExpanded);
-            if (!isExpanded) card.getStyleClass().add("card-expanded");
-            else card.getStyleClass().remove("card-expanded");
-        });
+            card.setOnMouseClicked(_ -> {
+                if (!expandedSessionIds.remove(session.getId())) {
+                    expandedSessionIds.add(session.getId());
+                }
+                applyExpanded();
+            });
 
-        card.getChildren().addAll(header, badges, details);
-        return card;
+            card.getChildren().addAll(header, badges, details);
+            getChildren().add(card);
+        }
+
+        void bind(Session s) {
+            session = s;
+            sessionTitle.setText(s.getTitle());
+            timeRange.setText(s.getStartDate().substring(11, 16) + " — " + s.getEndDate().substring(11, 16));
+            duration.setText(s.getTotalMinutes() + "m");
+            tagBadge.setText(s.getTag());
+            tagBadge.setStyle("-fx-border-color: " + s.getTagColor() + "; -fx-text-fill: " + s.getTagColor() + ";");
+            taskBadge.setText(s.getTask());
+            for (int i = 0; i < stars.size(); i++) {
+                FontIcon star = stars.get(i);
+                star.getStyleClass().removeAll("selectedStarHistory", "unselectedStarHistory");
+                star.getStyleClass().add(i < s.getRating() ? "selectedStarHistory" : "unselectedStarHistory");
+            }
+            desc.setText(s.getDescription());
+            applyExpanded();
+        }
+
+        private void applyExpanded() {
+            boolean expanded = expandedSessionIds.contains(session.getId());
+            details.setVisible(expanded);
+            details.setManaged(expanded);
+            if (expanded) {
+                if (!card.getStyleClass().contains("card-expanded")) card.getStyleClass().add("card-expanded");
+            } else {
+                card.getStyleClass().remove("card-expanded");
+            }
+        }
     }
 }
@@ -1,14 +1,19 @@
 package com.frandm.studytracker.ui.views.logs;
 
 import com.frandm.studytracker.client.ApiClient;
+import com.frandm.studytracker.client.SyncMirror;
 import com.frandm.studytracker.core.Logger;
 import com.frandm.studytracker.controllers.TrackerController;
 import com.frandm.studytracker.models.Session;
 import com.frandm.studytracker.core.NotificationManager;
+import javafx.application.Platform;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
 import org.kordamp.ikonli.javafx.FontIcon;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 public class LogsController {
 
@@ -20,6 +25,7 @@ public class LogsController {
     private Session sessionToDelete;
     private Session sessionToEdit;
     private int editRating = 0;
+    private String taskComboTag;
     private java.util.Map<String, String> tagColors = new java.util.HashMap<>();
 
     public LogsController(TrackerController mainController) {
@@ -30,6 +36,7 @@ public class LogsController {
         this.historyTab = h;
         this.focusTab = f;
         this.calendarTab = c;
+        SyncMirror.getInstance().addSessionListener(this::renderSyncedSessions);
     }
 
     public void requestDelete(Session s) {
@@ -39,16 +46,21 @@ public class LogsController {
 
     public void executeDeletion() {
         if (sessionToDelete != null) {
-            try {
-                ApiClient.deleteSession(sessionToDelete.getId());
-            } catch (Exception e) {
-                Logger.error("Error deleting session", e);
-                mainController.showBackendOperationError("Session could not be deleted", e);
-                return;
-            }
-            refreshAll();
-            sessionToDelete = null;
-            NotificationManager.show("Session Deleted", "Success", NotificationManager.NotificationType.SUCCESS);
+            Session deleting = sessionToDelete;
+            ApiClient.runAsync(() -> ApiClient.deleteSession(deleting.getId()))
+                    .whenComplete((_, error) -> Platform.runLater(() -> {
+                        if (error != null) {
+                            Exception cause = ApiClient.unwrap(error);
+                            Logger.error("Error deleting session", cause);
+                            mainController.showBackendOperationError("Session could not be deleted", cause);
+                            return;
+                        }
+                        refreshSession(deleting);
+                        if (sessionToDelete == deleting) {
+                            sessionToDelete = null;
+                        }
+                        NotificationManager.show("Session Deleted", "Success", NotificationManager.NotificationType.SUCCESS);
+                    }));
         }
     }
 
@@ -63,47 +75,55 @@ public class LogsController {
 
         title.setText(sessionToEdit.getTitle());
         desc.setText(sessionToEdit.getDescription());
+        tagCombo.setOnAction(null);
         tagCombo.getItems().clear();
         taskCombo.getItems().clear();
 
         tagColors.clear();
-        try {
-            ApiClient.getTags().forEach(t -> {
-                String name = (String) t.get("name");
-                String color = (String) t.get("color");
-                tagCombo.getItems().add(name);
-                tagColors.put(name, color);
-            });
-        } catch (Exception e) {
-            if (ApiClient.isConfigured()) {
-                Logger.error("Error loading tags", e);
-            }
-        }
-        tagCombo.setValue(sessionToEdit.getTag());
-
-        updateTaskCombo(taskCombo, sessionToEdit.getTag());
-        taskCombo.setValue(sessionToEdit.getTask());
-
-        tagCombo.setOnAction(_ -> {
-            String selectedTag = tagCombo.getValue();
-            if (selectedTag != null) {
-                updateTaskCombo(taskCombo, selectedTag);
-                taskCombo.setValue(null);
+        Session editing = sessionToEdit;
+        ApiClient.getTagsAsync().whenComplete((tags, error) -> Platform.runLater(() -> {
+            if (sessionToEdit != editing) return;
+            if (error != null) {
+                if (ApiClient.isConfigured()) {
+                    Logger.error("Error loading tags", ApiClient.unwrap(error));
+                }
+            } else {
+                tags.forEach(t -> {
+                    String name = (String) t.get("name");
+                    String color = (String) t.get("color");
+                    tagCombo.getItems().add(name);
+                    tagColors.put(name, color);
+                });
             }
-        });
+            tagCombo.setValue(editing.getTag());
+            updateTaskCombo(taskCombo, editing.getTag(), editing.getTask());
+
+            tagCombo.setOnAction(_ -> {
+                String selectedTag = tagCombo.getValue();
+                if (selectedTag != null) {
+                    updateTaskCombo(taskCombo, selectedTag, null);
+                }
+            });
+        }));
 
         updateStarsUI(starNodes);
     }
 
-    private void updateTaskCombo(ComboBox<String> taskCombo, String tagName) {
+    private void updateTaskCombo(ComboBox<String> taskCombo, String tagName, String selectedTask) {
         taskCombo.getItems().clear();
-        try {
-            ApiClient.getTasks(tagName).forEach(t -> taskCombo.getItems().add((String) t.get("name")));
-        } catch (Exception e) {
-            if (ApiClient.isConfigured()) {
-                Logger.error("Error loading tasks", e);
+        taskCombo.setValue(null);
+        taskComboTag = tagName;
+        ApiClient.getTasksAsync(tagName).whenComplete((tasks, error) -> Platform.runLater(() -> {
+            if (!tagName.equals(taskComboTag)) return;
+            if (error != null) {
+                if (ApiClient.isConfigured()) {
+                    Logger.error("Error loading tasks", ApiClient.unwrap(error));
+                }
+                return;
             }
-        }
+            tasks.forEach(t -> taskCombo.getItems().add((String) t.get("name")));
+            taskCombo.setValue(selectedTask);
+        }));
     }
 
     public void handleStarClick(int rating, List<FontIcon> starNodes) {
@@ -140,34 +160,58 @@ public class LogsController {
 
     public void saveEdit(String title, String desc, String tagName, String taskName) {
         if (sessionToEdit != null) {
-            String tagColor = tagColors.getOrDefault(tagName, sessionToEdit.getTagColor());
-            try {
-                ApiClient.patchSession(
-                        sessionToEdit.getId(),
-                        tagName,
-                        tagColor,
-                        taskName,
-                        title,
-                        desc,
-                        editRating
-                );
-            } catch (Exception e) {
-                Logger.error("Error updating session", e);
-                mainController.showBackendOperationError("Session could not be updated", e);
-                return;
-            }
-            refreshAll();
-            sessionToEdit = null;
-            NotificationManager.show("Success", "Session updated", NotificationManager.NotificationType.SUCCESS);
+            Session editing = sessionToEdit;
+            String tagColor = tagColors.getOrDefault(tagName, editing.getTagColor());
+            int rating = editRating;
+            ApiClient.runAsync(() -> ApiClient.patchSession(
+                    editing.getId(),
+                    tagName,
+                    tagColor,
+                    taskName,
+                    title,
+                    desc,
+                    rating
+            )).whenComplete((_, error) -> Platform.runLater(() -> {
+                if (error != null) {
+                    Exception cause = ApiClient.unwrap(error);
+                    Logger.error("Error updating session", cause);
+                    mainController.showBackendOperationError("Session could not be updated", cause);
+                    return;
+                }
+                refreshSession(editing);
+                if (sessionToEdit == editing) {
+                    sessionToEdit = null;
+                }
+                NotificationManager.show("Success", "Session updated", NotificationManager.NotificationType.SUCCESS);
+            }));
         }
     }
 
     public void refreshSessionData() {
+        renderSessionData();
+        SyncMirror.getInstance().syncAsync();
+    }
+
+    private void renderSessionData() {
         if (historyTab != null) historyTab.reload();
-        if (calendarTab != null) {
-            calendarTab.loadWeekSessions();
-            calendarTab.refresh();
+        if (calendarTab != null) calendarTab.loadWeekSessions();
+    }
+
+    private void renderSyncedSessions(Set<LocalDate> days) {
+        if (days == null) {
+            renderSessionData();
+            return;
         }
+        if (historyTab != null) historyTab.reload();
+        if (calendarTab != null) calendarTab.invalidateWeeks(days);
+    }
+
+    private void refreshSession(Session session) {
+        if (historyTab != null) historyTab.reload();
+        LocalDateTime start = session.getStartDateTime();
+        if (calendarTab != null && start != null) calendarTab.invalidateWeeks(Set.of(start.toLocalDate()));
+        if (focusTab != null) focusTab.refreshFocusAreasGrid();
+        SyncMirror.getInstance().syncAsync();
     }
 
     public void refreshAll() {
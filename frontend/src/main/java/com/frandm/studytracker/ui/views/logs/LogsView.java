@@ -1,5 +1,7 @@
 package com.frandm.studytracker.ui.views.logs;
 
+import com.frandm.studytracker.client.ApiClient;
+import com.frandm.studytracker.client.SyncMirror;
 import com.frandm.studytracker.controllers.TrackerController;
 import com.frandm.studytracker.ui.views.FloatingDockView;
 import javafx.animation.FadeTransition;
@@ -59,6 +61,11 @@ public class LogsView extends StackPane {
         this.getChildren().add(layout);
 
         currentTabId = "history";
+
+        if (ApiClient.isConfigured() && SyncMirror.getInstance().isPopulated()) {
+            initialized = true;
+            historyTab.reload();
+        }
     }
 
     public void initializeAfterConnection() {
@@ -2,6 +2,7 @@ package com.frandm.studytracker.ui.views.planner;
 
 import atlantafx.base.theme.Styles;
 import com.frandm.studytracker.client.ApiClient;
+import com.frandm.studytracker.client.WriteBehindQueue;
 import com.frandm.studytracker.core.NotificationManager;
 import com.frandm.studytracker.core.Logger;
 import com.frandm.studytracker.controllers.TrackerController;
@@ -26,6 +27,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.TextStyle;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -45,9 +47,13 @@ public class DailyTab extends VBox {
     private LocalDate currentDate = LocalDate.now();
     private Runnable refreshAction = () -> {};
     private Popup activePopup;
-    private boolean savingNote = false;
 
     private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final long NOTE_SAVE_DEBOUNCE_MS = 800;
+    private static final long NOTE_FLUSH_TIMEOUT_MS = 5_000;
+
+    private final WriteBehindQueue<LocalDate, String> noteWriter =
+            new WriteBehindQueue<>("note-save-thread", NOTE_SAVE_DEBOUNCE_MS, ApiClient::saveNote);
 
     public DailyTab(TrackerController trackerController) {
         this.trackerController = trackerController;
@@ -60,6 +66,16 @@ public class DailyTab extends VBox {
         this.refreshAction = refreshAction != null ? refreshAction : () -> {};
     }
 
+    public void flushPendingNotes() {
+        try {
+            if (!noteWriter.flushAndAwait(NOTE_FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                Logger.warn("Timed out saving pending daily notes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public void openCreateScheduledSession() {
         showScheduledSessionPopup(new LinkedHashMap<>());
     }
@@ -207,6 +223,12 @@ public class DailyTab extends VBox {
         editArea.setWrapText(true);
         editArea.setPrefRowCount(14);
         editArea.setPromptText("Type ...");
+        LocalDate noteDate = currentDate;
+        editArea.textProperty().addListener((_, _, text) -> {
+            noteArea.setText(text);
+            updateNotesPreview();
+            noteWriter.submit(noteDate, text);
+        });
 
         Button btnSave = new Button("Save Notes");
         btnSave.getStyleClass().addAll(Styles.ACCENT, Styles.BUTTON_OUTLINED);
@@ -214,7 +236,8 @@ public class DailyTab extends VBox {
         btnSave.setOnAction(_ -> {
             noteArea.setText(editArea.getText());
             updateNotesPreview();
-            saveCurrentNote();
+            noteWriter.submit(noteDate, editArea.getText());
+            noteWriter.flush();
             closeOverlay();
         });
 
@@ -333,18 +356,6 @@ public class DailyTab extends VBox {
         trackerController.hidePlannerOverlay();
     }
 
-    private void saveCurrentNote() {
-        if (savingNote) return;
-        savingNote = true;
-        String content = noteArea.getText();
-        LocalDate dateToSave = currentDate;
-        new Thread(() -> {
-            try { ApiClient.saveNote(dateToSave, content); }
-            catch (Exception e) { Logger.error(e); }
-            finally { savingNote = false; }
-        }, "note-save-thread").start();
-    }
-
     private void handleAddTodo(TextField todoField) {
         String text = todoField.getText().trim();
         if (text.isEmpty()) return;
@@ -462,7 +473,8 @@ public class DailyTab extends VBox {
                                  List<Map<String, Object>> scheduled,
                                  List<Map<String, Object>> deadlines) {
         this.currentDate = date;
-        noteArea.setText(note != null ? note : "");
+        String unsavedNote = noteWriter.latest(date);
+        noteArea.setText(unsavedNote != null ? unsavedNote : note != null ? note : "");
         updateNotesPreview();
         closeOverlay();
 
@@ -688,22 +700,17 @@ public class DailyTab extends VBox {
 
         ComboBox<String> tags = new ComboBox<>();
         ComboBox<String> tasks = new ComboBox<>();
-        PlannerHelpers.TagSelectionData tagData = PlannerHelpers.loadTagData();
-        Map<String, List<String>> tagMap = tagData.tagMap();
-        tags.getItems().addAll(tagMap.keySet());
         tags.setMaxWidth(Double.MAX_VALUE);
         tasks.setMaxWidth(Double.MAX_VALUE);
-        tags.setOnAction(_ -> {
-            tasks.getItems().setAll(tagMap.getOrDefault(tags.getValue(), List.of()));
-            if (!tasks.getItems().isEmpty()) tasks.getSelectionModel().selectFirst();
-        });
-
-        String initialTask = String.valueOf(data.getOrDefault("task_name", ""));
-        PlannerHelpers.preselectTask(tagMap, tags, tasks, initialTask);
 
         Button save = new Button(isEdit ? "Update" : "Save");
         save.getStyleClass().add("button-primary");
         save.setMaxWidth(Double.MAX_VALUE);
+
+        String initialTask = String.valueOf(data.getOrDefault("task_name", ""));
+        PlannerHelpers.showTagSelectorsLoading(tags, tasks, save);
+        PlannerHelpers.loadTagDataAsync().thenAccept(tagData -> Platform.runLater(() ->
+                PlannerHelpers.applyTagData(tags, tasks, initialTask, save, tagData)));
         save.setOnAction(_ -> {
             if (!PlannerHelpers.requireDate(dpStart, "Start")
                     || !PlannerHelpers.requireDate(dpEnd, "End")
@@ -720,32 +727,40 @@ public class DailyTab extends VBox {
                 return;
             }
 
-            try {
+            String tagName = tags.getValue();
+            String taskName = tasks.getValue();
+            String title = titleField.getText().trim();
+            save.setDisable(true);
+            ApiClient.runAsync(() -> {
                 if (isEdit) {
                     ApiClient.updateScheduledSession(
                             ((Number) data.get("id")).longValue(),
-                            tags.getValue(),
-                            tasks.getValue(),
-                            titleField.getText().trim(),
+                            tagName,
+                            taskName,
+                            title,
                             ApiClient.formatApiTimestamp(newStart),
                             ApiClient.formatApiTimestamp(newEnd)
                     );
                 } else {
                     ApiClient.saveScheduledSession(
-                            tags.getValue(),
-                            tasks.getValue(),
-                            titleField.getText().trim(),
+                            tagName,
+                            taskName,
+                            title,
                             ApiClient.formatApiTimestamp(newStart),
                             ApiClient.formatApiTimestamp(newEnd)
                     );
                 }
-            } catch (Exception error) {
-                Logger.error(error);
-                trackerController.showBackendOperationError("Scheduled session could not be saved", error);
-                return;
-            }
-            popup.hide();
-            refreshPlannerAndMenu();
+            }).whenComplete((_, error) -> Platform.runLater(() -> {
+                save.setDisable(false);
+                if (error != null) {
+                    Exception cause = ApiClient.unwrap(error);
+                    Logger.error(cause);
+                    trackerController.showBackendOperationError("Scheduled session could not be saved", cause);
+                    return;
+                }
+                popup.hide();
+                refreshPlannerAndMenu();
+            }));
         });
 
         root.getChildren().addAll(
@@ -763,14 +778,17 @@ public class DailyTab extends VBox {
             delete.getStyleClass().add("button-danger");
             delete.setMaxWidth(Double.MAX_VALUE);
             delete.setOnAction(_ -> {
-                try {
-                    ApiClient.deleteScheduledSession(((Number) data.get("id")).longValue());
-                } catch (Exception error) {
-                    Logger.error(error);
-                    return;
-                }
-                popup.hide();
-                refreshPlannerAndMenu();
+                delete.setDisable(true);
+                ApiClient.runAsync(() -> ApiClient.deleteScheduledSession(((Number) data.get("id")).longValue()))
+                        .whenComplete((_, error) -> Platform.runLater(() -> {
+                            delete.setDisable(false);
+                            if (error != null) {
+                                Logger.error(ApiClient.unwrap(error));
+                                return;
+                            }
+                            popup.hide();
+                            refreshPlannerAndMenu();
+                        }));
             });
             root.getChildren().add(delete);
         }
@@ -813,22 +831,20 @@ public class DailyTab extends VBox {
 
         ComboBox<String> tags = new ComboBox<>();
         ComboBox<String> tasks = new ComboBox<>();
-        PlannerHelpers.TagSelectionData tagData = PlannerHelpers.loadTagData();
-        Map<String, List<String>> tagMap = tagData.tagMap();
-        tags.getItems().addAll(tagMap.keySet());
         tags.setMaxWidth(Double.MAX_VALUE);
         tasks.setMaxWidth(Double.MAX_VALUE);
-        tags.setOnAction(_ -> {
-            tasks.getItems().setAll(tagMap.getOrDefault(tags.getValue(), List.of()));
-            if (!tasks.getItems().isEmpty()) tasks.getSelectionModel().selectFirst();
-        });
-
-        String initialTask = String.valueOf(data.getOrDefault("task_name", data.getOrDefault("taskName", "")));
-        PlannerHelpers.preselectTask(tagMap, tags, tasks, initialTask);
 
         Button save = new Button(isEdit ? "Update" : "Save");
         save.getStyleClass().add("button-primary");
         save.setMaxWidth(Double.MAX_VALUE);
+
+        Map<String, String> tagColors = new HashMap<>();
+        String initialTask = String.valueOf(data.getOrDefault("task_name", data.getOrDefault("taskName", "")));
+        PlannerHelpers.showTagSelectorsLoading(tags, tasks, save);
+        PlannerHelpers.loadTagDataAsync().thenAccept(tagData -> Platform.runLater(() -> {
+            tagColors.putAll(tagData.tagColors());
+            PlannerHelpers.applyTagData(tags, tasks, initialTask, save, tagData);
+        }));
         save.setOnAction(_ -> {
             if (!PlannerHelpers.requireDate(dueDate, "Due")
                     || !PlannerHelpers.requireSelection(tags, "Tag")
@@ -842,39 +858,53 @@ public class DailyTab extends VBox {
             int minute = allDay.isSelected() ? 0 : PlannerHelpers.parseInt(minuteField.getText());
             LocalDateTime newDue = dueDate.getValue().atTime(hour, minute);
 
-            try {
+            String tagName = tags.getValue();
+            String tagColor = tagColors.getOrDefault(tagName, "");
+            String taskName = tasks.getValue();
+            String title = titleField.getText().trim();
+            String description = descriptionArea.getText().trim();
+            String urgencyValue = urgency.getValue();
+            boolean isAllDay = allDay.isSelected();
+            boolean completed = isDeadlineCompleted(data);
+            save.setDisable(true);
+            ApiClient.runAsync(() -> {
                 if (isEdit) {
                     ApiClient.updateDeadline(
                             ((Number) data.get("id")).longValue(),
-                            tags.getValue(),
-                            tagData.tagColors().getOrDefault(tags.getValue(), ""),
-                            tasks.getValue(),
-                            titleField.getText().trim(),
-                            descriptionArea.getText().trim(),
-                            urgency.getValue(),
+                            tagName,
+                            tagColor,
+                            taskName,
+                            title,
+                            description,
+                            urgencyValue,
                             ApiClient.formatApiTimestamp(newDue),
-                            allDay.isSelected(),
-                            isDeadlineCompleted(data)
+                            isAllDay,
+                            completed
                     );
                 } else {
                     ApiClient.saveDeadline(
-                            tags.getValue(),
-                            tagData.tagColors().getOrDefault(tags.getValue(), ""),
-                            tasks.getValue(),
-                            titleField.getText().trim(),
-                            descriptionArea.getText().trim(),
-                            urgency.getValue(),
+                            tagName,
+                            tagColor,
+                            taskName,
+                            title,
+                            description,
+                            urgencyValue,
                             ApiClient.formatApiTimestamp(newDue),
-                            allDay.isSelected(),
+                            isAllDay,
                             false
                     );
                 }
+            }).whenComplete((_, error) -> Platform.runLater(() -> {
+                save.setDisable(false);
+                if (error != null) {
+                    Exception cause = ApiClient.unwrap(error);
+                    Logger.error(cause);
+                    trackerController.showBackendOperationError("Deadline could not be saved", cause);
+                    return;
+                }
                 popup.hide();
                 refreshPlannerAndMenu();
-            } catch (Exception error) {
-                Logger.error(error);
-                trackerController.showBackendOperationError("Deadline could not be saved", error);
-            }
+            }));
         });
 
         root.getChildren().addAll(
@@ -894,15 +924,19 @@ public class DailyTab extends VBox {
             delete.getStyleClass().add("button-danger");
             delete.setMaxWidth(Double.MAX_VALUE);
             delete.setOnAction(_ -> {
-                try {
-                    ApiClient.deleteDeadline(((Number) data.get("id")).longValue());
-                } catch (Exception error) {
-                    Logger.error(error);
-                    trackerController.showBackendOperationError("Deadline could not be deleted", error);
-                    return;
-                }
-                popup.hide();
-                refreshPlannerAndMenu();
+                delete.setDisable(true);
+                ApiClient.runAsync(() -> ApiClient.deleteDeadline(((Number) data.get("id")).longValue()))
+                        .whenComplete((_, error) -> Platform.runLater(() -> {
+                            delete.setDisable(false);
+                            if (error != null) {
+                                Exception cause = ApiClient.unwrap(error);
+                                Logger.error(cause);
+                                trackerController.showBackendOperationError("Deadline could not be deleted", cause);
+                                return;
+                            }
+                            popup.hide();
+                            refreshPlannerAndMenu();
+                        }));
             });
             root.getChildren().add(delete);
         }
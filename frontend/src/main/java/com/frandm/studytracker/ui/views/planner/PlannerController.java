@@ -1,6 +1,8 @@
 package com.frandm.studytracker.ui.views.planner;
 
 import com.frandm.studytracker.client.ApiClient;
+import com.frandm.studytracker.client.SyncMirror;
+import com.frandm.studytracker.client.WeekCache;
 import com.frandm.studytracker.core.Logger;
 import com.frandm.studytracker.core.TagEventBus;
 import com.frandm.studytracker.controllers.TrackerController;
@@ -16,6 +18,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class PlannerController {
+    private static final int WEEK_CACHE_SIZE = 8;
+
     private final DailyTab dailyTab;
     private final WeeklyTab weeklyTab;
     private final PlannerView view;
@@ -24,31 +28,45 @@ public class PlannerController {
             1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()
     );
     private final AtomicLong refreshVersion = new AtomicLong();
+    private final WeekCache<WeekData> weekCache = new WeekCache<>(WEEK_CACHE_SIZE);
+
+    private record WeekData(List<Map<String, Object>> scheduled, List<Map<String, Object>> deadlines) {}
 
     public PlannerController(TrackerController controller) {
         this.dailyTab = new DailyTab(controller);
         this.weeklyTab = new WeeklyTab(controller);
-        this.dailyTab.setRefreshAction(this::refreshDailyOnly);
-        this.weeklyTab.setRefreshAction(this::refresh);
+        this.dailyTab.setRefreshAction(() -> {
+            weekCache.invalidateAll();
+            refreshDailyOnly();
+        });
+        this.weeklyTab.setRefreshAction(() -> {
+            weekCache.invalidateAll();
+            refresh();
+        });
         this.view = new PlannerView(controller, this, dailyTab, weeklyTab);
         TagEventBus.getInstance().subscribe(_ -> {
             weeklyTab.invalidateTagSelectionCache();
+            weekCache.invalidateAll();
             refresh();
         });
+        SyncMirror.getInstance().addListener(() -> {
+            weekCache.invalidateAll();
+            requestRefresh(true, false);
+        });
         if (ApiClient.isConfigured()) {
             refresh();
         }
     }
 
     public void refresh() {
-        requestRefresh(true);
+        requestRefresh(true, true);
     }
 
     public void refreshDailyOnly() {
-        requestRefresh(false);
+        requestRefresh(false, true);
     }
 
-    private void requestRefresh(boolean includeWeek) {
+    private void requestRefresh(boolean includeWeek, boolean reconcile) {
         if (!ApiClient.isConfigured()) {
             return;
         }
@@ -57,55 +75,80 @@ public class PlannerController {
         LocalDate weekEnd = weekStart.plusDays(6);
         long requestId = refreshVersion.incrementAndGet();
 
+        WeekData cachedWeek = includeWeek ? weekCache.get(weekStart) : null;
+        if (cachedWeek != null) {
+            weeklyTab.refreshData(weekStart, cachedWeek.scheduled(), cachedWeek.deadlines());
+            view.updateTitle();
+        }
+
         executor.getQueue().clear();
         executor.submit(() -> {
             try {
-                String note = ApiClient.getNoteByDate(targetDate);
-                List<Map<String, Object>> todos = ApiClient.getTodosByDate(targetDate);
-                List<Map<String, Object>> daySessions = loadScheduled(targetDate, targetDate);
-                List<Map<String, Object>> dayDeadlines = loadDeadlines(targetDate, targetDate);
-                List<Map<String, Object>> weekSessions = List.of();
-                List<Map<String, Object>> weekDeadlines = List.of();
-
+                render(requestId, targetDate, weekStart, weekEnd, includeWeek);
+                if (reconcile && SyncMirror.getInstance().sync()) {
+                    weekCache.invalidateAll();
+                    render(requestId, targetDate, weekStart, weekEnd, includeWeek);
+                }
                 if (includeWeek) {
-                    weekSessions = loadScheduled(weekStart, weekEnd);
-                    weekDeadlines = loadDeadlines(weekStart, weekEnd);
+                    prefetchAdjacentWeeks(requestId, weekStart);
                 }
-
-                List<Map<String, Object>> finalWeekSessions = weekSessions;
-                List<Map<String, Object>> finalWeekDeadlines = weekDeadlines;
-                Platform.runLater(() -> {
-                    if (requestId != refreshVersion.get()) {
-                        return;
-                    }
-
-                    dailyTab.updateDayContent(targetDate, note, todos, daySessions, dayDeadlines);
-                    if (includeWeek) {
-                        weeklyTab.refreshData(weekStart, finalWeekSessions, finalWeekDeadlines);
-                    }
-                    view.updateTitle();
-                });
             } catch (Exception e) {
-                if (ApiClient.isConfigured()) {
+                if (ApiClient.isConfigured() && !ApiClient.isConnectionIssue(e)) {
                     Logger.error("Error refreshing Planner", e);
                 }
             }
         });
     }
 
-    private List<Map<String, Object>> loadScheduled(LocalDate startDate, LocalDate endDate) throws Exception {
-        List<Map<String, Object>> sessions = ApiClient.getScheduledSessions(
-                format(startDate, LocalTime.MIN),
-                format(endDate, LocalTime.MAX)
+    private void render(long requestId, LocalDate targetDate, LocalDate weekStart, LocalDate weekEnd, boolean includeWeek) {
+        SyncMirror mirror = SyncMirror.getInstance();
+        String note = mirror.getNoteByDate(targetDate);
+        List<Map<String, Object>> todos = mirror.getTodosByDate(targetDate);
+        List<Map<String, Object>> daySessions = loadScheduled(targetDate, targetDate);
+        List<Map<String, Object>> dayDeadlines = loadDeadlines(targetDate, targetDate);
+        WeekData week = includeWeek ? weekCache.computeIfAbsent(weekStart, this::loadWeek) : null;
+
+        Platform.runLater(() -> {
+            if (requestId != refreshVersion.get()) {
+                return;
+            }
+
+            dailyTab.updateDayContent(targetDate, note, todos, daySessions, dayDeadlines);
+            if (includeWeek) {
+                weeklyTab.refreshData(weekStart, week.scheduled(), week.deadlines());
+            }
+            view.updateTitle();
+        });
+    }
+
+    private void prefetchAdjacentWeeks(long requestId, LocalDate weekStart) {
+        for (LocalDate adjacent : List.of(weekStart.plusWeeks(1), weekStart.minusWeeks(1))) {
+            executor.submit(() -> {
+                if (requestId == refreshVersion.get()) {
+                    weekCache.computeIfAbsent(adjacent, this::loadWeek);
+                }
+            });
+        }
+    }
+
+    private WeekData loadWeek(LocalDate weekStart) {
+        LocalDate weekEnd = weekStart.plusDays(6);
+        return new WeekData(loadScheduled(weekStart, weekEnd), loadDeadlines(weekStart, weekEnd));
+    }
+
+    private List<Map<String, Object>> loadScheduled(LocalDate startDate, LocalDate endDate) {
+        List<Map<String, Object>> sessions = SyncMirror.getInstance().getScheduledSessions(
+                startDate.atTime(LocalTime.MIN),
+                endDate.atTime(LocalTime.MAX)
         );
         process(sessions, "startDate", "endDate");
         return sessions;
     }
 
-    private List<Map<String, Object>> loadDeadlines(LocalDate startDate, LocalDate endDate) throws Exception {
-        List<Map<String, Object>> deadlines = ApiClient.getDeadlines(
-                format(startDate, LocalTime.MIN),
-                format(endDate, LocalTime.MAX)
+    private List<Map<String, Object>> loadDeadlines(LocalDate startDate, LocalDate endDate) {
+        List<Map<String, Object>> deadlines = SyncMirror.getInstance().getDeadlines(
+                startDate.atTime(LocalTime.MIN),
+                endDate.atTime(LocalTime.MAX)
         );
         process(deadlines, "deadline", null);
         return deadlines;
@@ -139,10 +182,6 @@ public class PlannerController {
         }
     }
 
-    private String format(LocalDate date, LocalTime time) {
-        return ApiClient.formatApiTimestamp(date.atTime(time));
-    }
-
     private LocalDateTime resolveStartDate(Map<String, Object> item, String primaryKey) {
         LocalDateTime primary = ApiClient.parseApiTimestamp(item.get(primaryKey));
         if (primary != null) return primary;
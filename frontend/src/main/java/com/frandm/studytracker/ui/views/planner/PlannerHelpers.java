@@ -3,43 +3,67 @@ package com.frandm.studytracker.ui.views.planner;
 import com.frandm.studytracker.client.ApiClient;
 import com.frandm.studytracker.core.NotificationManager;
 import javafx.geometry.Pos;
+import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.DatePicker;
 import javafx.scene.control.TextField;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class PlannerHelpers {
 
 
-    public static TagSelectionData loadTagData() {
+    public static CompletableFuture<TagSelectionData> loadTagDataAsync() {
+        return ApiClient.getCatalogAsync()
+                .thenApply(PlannerHelpers::toTagData)
+                .exceptionally(_ -> new TagSelectionData(Map.of(), Map.of()));
+    }
+
+    private static TagSelectionData toTagData(List<Map<String, Object>> catalog) {
         Map<String, List<String>> tagMap = new LinkedHashMap<>();
         Map<String, String> tagColors = new LinkedHashMap<>();
 
-        try {
-            ApiClient.getTags().forEach(tag -> {
-                String tagName = String.valueOf(tag.get("name"));
-                tagColors.put(tagName, String.valueOf(tag.getOrDefault("color", "")));
-                try {
-                    List<String> taskNames = ApiClient.getTasks(tagName)
-                            .stream()
-                            .map(task -> String.valueOf(task.get("name")))
-                            .collect(Collectors.toList());
-                    tagMap.put(tagName, taskNames);
-                } catch (Exception ex) {
-                    tagMap.put(tagName, new ArrayList<>());
-                }
-            });
-        } catch (Exception ignored) {}
+        for (Map<String, Object> tag : catalog) {
+            if (ApiClient.parseBooleanFlag(tag.get("archived"))) continue;
+            String tagName = String.valueOf(tag.get("name"));
+            tagColors.put(tagName, String.valueOf(tag.getOrDefault("color", "")));
+            tagMap.put(tagName, ApiClient.catalogTasks(tag)
+                    .stream()
+                    .map(task -> String.valueOf(task.get("name")))
+                    .collect(Collectors.toList()));
+        }
 
         return new TagSelectionData(tagMap, tagColors);
     }
 
+    public static void showTagSelectorsLoading(ComboBox<String> tagBox, ComboBox<String> taskBox, Button saveButton) {
+        tagBox.setDisable(true);
+        taskBox.setDisable(true);
+        saveButton.setDisable(true);
+        tagBox.setPromptText("Loading tags...");
+        taskBox.setPromptText("Loading tasks...");
+    }
+
+    public static void applyTagData(ComboBox<String> tagBox, ComboBox<String> taskBox, String initialTask, Button saveButton, TagSelectionData tagData) {
+        Map<String, List<String>> tagMap = tagData.tagMap();
+        tagBox.getItems().setAll(tagMap.keySet());
+        tagBox.setOnAction(_ -> {
+            taskBox.getItems().setAll(tagMap.getOrDefault(tagBox.getValue(), List.of()));
+            if (!taskBox.getItems().isEmpty()) taskBox.getSelectionModel().selectFirst();
+        });
+        preselectTask(tagMap, tagBox, taskBox, initialTask);
+        tagBox.setDisable(tagMap.isEmpty());
+        taskBox.setDisable(tagMap.isEmpty());
+        saveButton.setDisable(tagMap.isEmpty());
+        tagBox.setPromptText(tagMap.isEmpty() ? "No tags available" : null);
+        taskBox.setPromptText(tagMap.isEmpty() ? "No tasks available" : null);
+    }
+
     public static void preselectTask(Map<String, List<String>> tagMap, ComboBox<String> tags, ComboBox<String> tasks, String taskName) {
         tagMap.entrySet().stream()
                 .filter(entry -> entry.getValue().contains(taskName))
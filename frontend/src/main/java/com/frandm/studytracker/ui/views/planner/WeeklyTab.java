@@ -4,9 +4,13 @@ import com.frandm.studytracker.client.ApiClient;
 import com.frandm.studytracker.core.NotificationManager;
 import com.frandm.studytracker.core.Logger;
 import com.frandm.studytracker.controllers.TrackerController;
+import com.frandm.studytracker.ui.util.CalendarDayHeader;
+import com.frandm.studytracker.ui.util.CalendarSessionBlock;
+import com.frandm.studytracker.ui.util.KeyedNodePool;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.scene.shape.Circle;
@@ -33,6 +37,16 @@ public class WeeklyTab extends VBox {
     private final Pane[] dayColumns = new Pane[7];
     private final Pane[] deadlineLayers = new Pane[7];
     private final VBox[] allDayDeadlineContainers = new VBox[7];
+    private final VBox[] dayColumnWrappers = new VBox[7];
+    private final CalendarDayHeader[] dayHeaders = new CalendarDayHeader[7];
+    private final KeyedNodePool<String, PlacedItem, CalendarSessionBlock> sessionBlocks =
+            new KeyedNodePool<>(this::createSessionBlock, this::bindSessionBlock);
+    private final KeyedNodePool<String, PlacedItem, DeadlinePill> timedDeadlinePills =
+            new KeyedNodePool<>(DeadlinePill::new, this::bindTimedDeadline);
+    private final KeyedNodePool<String, PlacedItem, DeadlinePill> allDayDeadlinePills =
+            new KeyedNodePool<>(DeadlinePill::new, this::bindAllDayDeadline);
+    private StackPane allDayLabelWrapper;
+    private HBox timeIndicator;
     private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
     private static final double MIN_BLOCK_HEIGHT = 30.0;
     private Runnable refreshAction = () -> {};
@@ -41,6 +55,8 @@ public class WeeklyTab extends VBox {
     private List<Map<String, Object>> weeklyScheduled = new ArrayList<>();
     private List<Map<String, Object>> weeklyDeadlines = new ArrayList<>();
 
+    private record PlacedItem(Map<String, Object> item, int dayIdx, int pos, int total) {}
+
     public WeeklyTab(TrackerController controller) {
         this.currentWeekStart = LocalDate.now().with(DayOfWeek.MONDAY);
         this.controller = controller;
@@ -82,15 +98,15 @@ public class WeeklyTab extends VBox {
         scrollPane.setFitToWidth(true);
         VBox.setVgrow(scrollPane, Priority.ALWAYS);
         this.getChildren().addAll(headerGrid, scrollPane);
+        setupGridConstraints();
+        buildBaseGrid();
         refresh();
         Platform.runLater(this::scrollToCurrentTime);
     }
 
     public void refresh() {
-        calendarGrid.getChildren().clear();
-        setupGridConstraints();
         updateAllDaySectionHeight(weeklyDeadlines);
-        renderBaseGrid();
+        updateBaseGrid();
         drawContent(weeklyScheduled, weeklyDeadlines);
         drawTimeIndicator();
     }
@@ -115,24 +131,17 @@ public class WeeklyTab extends VBox {
         }
     }
 
-    private void renderBaseGrid() {
-        LocalDate today = LocalDate.now();
-        headerGrid.getChildren().clear();
-        calendarGrid.getChildren().clear();
-
+    private void buildBaseGrid() {
         VBox timeColumn = new VBox();
         timeColumn.getStyleClass().add("calendar-time-column");
 
-        StackPane allDayLabelWrapper = new StackPane();
+        allDayLabelWrapper = new StackPane();
         allDayLabelWrapper.getStyleClass().add("calendar-all-day-label-wrapper");
-        allDayLabelWrapper.setPrefHeight(allDaySectionHeight);
-        allDayLabelWrapper.setMinHeight(allDaySectionHeight);
 
         Label allDayLabel = new Label("All day");
         allDayLabel.getStyleClass().add("calendar-all-day-label");
         allDayLabelWrapper.getChildren().add(allDayLabel);
 
-
         Pane timeGrid = new Pane();
         timeGrid.setPrefHeight(ROW_HEIGHT * 24);
         timeGrid.setMinHeight(ROW_HEIGHT * 24);
@@ -149,19 +158,16 @@ public class WeeklyTab extends VBox {
         calendarGrid.add(timeColumn, 0, 0);
 
         for (int i = 0; i < 7; i++) {
-            LocalDate date = currentWeekStart.plusDays(i);
-            boolean isToday = date.equals(today);
-            headerGrid.add(createDayHeader(date, isToday), i + 1, 0);
+            final int dayIdx = i;
+            dayHeaders[i] = new CalendarDayHeader();
+            headerGrid.add(dayHeaders[i], i + 1, 0);
             VBox dayColumnWrapper = new VBox();
             dayColumnWrapper.getStyleClass().add("day-column-wrapper");
-
-            if (isToday) dayColumnWrapper.getStyleClass().add("today-column");
+            dayColumnWrappers[i] = dayColumnWrapper;
 
             VBox allDayBox = new VBox(2);
             allDayBox.getStyleClass().add("calendar-all-day-box");
             allDayBox.setPadding(new Insets(5));
-            allDayBox.setPrefHeight(allDaySectionHeight);
-            allDayBox.setMinHeight(allDaySectionHeight);
             allDayBox.setPickOnBounds(false);
             allDayDeadlineContainers[i] = allDayBox;
 
@@ -178,7 +184,7 @@ public class WeeklyTab extends VBox {
                 final int finalH = h;
                 clickZone.setOnMouseClicked(e -> {
                     if (e.getClickCount() == 1) {
-                        showPopup(null, date, e.getScreenX(), e.getScreenY(), finalH, false);
+                        showPopup(null, currentWeekStart.plusDays(dayIdx), e.getScreenX(), e.getScreenY(), finalH, false);
                         e.consume();
                     }
                 });
@@ -204,11 +210,38 @@ public class WeeklyTab extends VBox {
             dayColumnWrapper.getChildren().addAll(allDayBox, columnCanvas);
             calendarGrid.add(dayColumnWrapper, i + 1, 0);
         }
+
+        timeIndicator = new HBox();
+        timeIndicator.setAlignment(Pos.CENTER_LEFT);
+        timeIndicator.setMouseTransparent(true);
+        Circle dot = new Circle(4);
+        dot.setStyle("-fx-fill: #e74c3c;");
+        Region line = new Region();
+        line.setStyle("-fx-background-color: #e74c3c; -fx-min-height: 2px; -fx-max-height: 2px;");
+        HBox.setHgrow(line, Priority.ALWAYS);
+        timeIndicator.getChildren().addAll(dot, line);
+    }
+
+    private void updateBaseGrid() {
+        LocalDate today = LocalDate.now();
+        allDayLabelWrapper.setPrefHeight(allDaySectionHeight);
+        allDayLabelWrapper.setMinHeight(allDaySectionHeight);
+        for (int i = 0; i < 7; i++) {
+            LocalDate date = currentWeekStart.plusDays(i);
+            boolean isToday = date.equals(today);
+            dayHeaders[i].update(date, isToday);
+            dayColumnWrappers[i].getStyleClass().remove("today-column");
+            if (isToday) dayColumnWrappers[i].getStyleClass().add("today-column");
+            allDayDeadlineContainers[i].setPrefHeight(allDaySectionHeight);
+            allDayDeadlineContainers[i].setMinHeight(allDaySectionHeight);
+        }
     }
 
     private void drawContent(List<Map<String, Object>> sessions, List<Map<String, Object>> deadlines) {
         renderAllDayDeadlines(deadlines);
         Map<Integer, List<Map<String, Object>>> dayMap = new HashMap<>();
+        Map<String, KeyedNodePool.Placement<PlacedItem>> sessionPlacements = new LinkedHashMap<>();
+        Map<String, KeyedNodePool.Placement<PlacedItem>> deadlinePlacements = new LinkedHashMap<>();
         for (Map<String, Object> s : sessions) {
             String startStr = getStartTime(s);
             if (startStr == null) continue;
@@ -283,10 +316,19 @@ public class WeeklyTab extends VBox {
                 int size = group.size();
 
                 for (int i = 0; i < size; i++) {
-                    renderPlannerItem(group.get(i), dayIdx, i, size);
+                    Map<String, Object> item = group.get(i);
+                    PlacedItem placed = new PlacedItem(item, dayIdx, i, size);
+                    if ("deadline".equals(item.get("item_type"))) {
+                        deadlinePlacements.put("deadline:" + item.get("id"), new KeyedNodePool.Placement<>(deadlineLayers[dayIdx], placed));
+                    } else {
+                        LocalDate day = ((LocalDateTime) item.get("draw_start")).toLocalDate();
+                        sessionPlacements.put("session:" + item.get("id") + ":" + day, new KeyedNodePool.Placement<>(dayColumns[dayIdx], placed));
+                    }
                 }
             }
         }
+        sessionBlocks.reconcile(sessionPlacements);
+        timedDeadlinePills.reconcile(deadlinePlacements);
     }
 
     private void updateAllDaySectionHeight(List<Map<String, Object>> deadlines) {
@@ -329,66 +371,104 @@ public class WeeklyTab extends VBox {
     }
 
     private void renderAllDayDeadlines(List<Map<String, Object>> deadlines) {
+        Map<String, KeyedNodePool.Placement<PlacedItem>> placements = new LinkedHashMap<>();
         for (Map<String, Object> deadline : deadlines) {
+            if (!Boolean.TRUE.equals(deadline.get("allDay"))) continue;
             LocalDateTime date = parseDateTime(deadline);
             if (date == null) continue;
             int dayIdx = (int) ChronoUnit.DAYS.between(currentWeekStart, date.toLocalDate());
             if (dayIdx < 0 || dayIdx > 6) continue;
+            placements.put("deadline:" + deadline.get("id"),
+                    new KeyedNodePool.Placement<>(allDayDeadlineContainers[dayIdx], new PlacedItem(deadline, dayIdx, 0, 1)));
+        }
+        allDayDeadlinePills.reconcile(placements);
 
-            if (Boolean.TRUE.equals(deadline.get("allDay"))) {
-                HBox pill = createDeadlinePill(deadline, true, date);
-                allDayDeadlineContainers[dayIdx].getChildren().add(pill);
+        List<List<Node>> ordered = new ArrayList<>();
+        for (int i = 0; i < 7; i++) ordered.add(new ArrayList<>());
+        for (Map.Entry<String, KeyedNodePool.Placement<PlacedItem>> entry : placements.entrySet()) {
+            ordered.get(entry.getValue().model().dayIdx()).add(allDayDeadlinePills.nodeFor(entry.getKey()));
+        }
+        for (int i = 0; i < 7; i++) {
+            if (!allDayDeadlineContainers[i].getChildren().equals(ordered.get(i))) {
+                allDayDeadlineContainers[i].getChildren().setAll(ordered.get(i));
             }
         }
     }
 
-    private HBox createDeadlinePill(Map<String, Object> deadline, boolean allDay, LocalDateTime date) {
-        String title = String.valueOf(deadline.getOrDefault("title", deadline.getOrDefault("task_name", deadline.getOrDefault("taskName", "Deadline"))));
-        String urgency = String.valueOf(deadline.getOrDefault("urgency", "Medium"));
-        boolean isCompleted = isDeadlineCompleted(deadline);
-        HBox pill = new HBox(8);
-        pill.setAlignment(Pos.CENTER_LEFT);
-        pill.getStyleClass().add("calendar-deadline-pill");
-
-        FontIcon icon = new FontIcon("mdi2a-alarm");
-        icon.getStyleClass().add("calendar-deadline-icon");
-
-        Region colorBar = new Region();
-        colorBar.getStyleClass().add("session-deadline-bar");
-
-        VBox content = new VBox(2);
-        content.getStyleClass().add("calendar-deadline-content");
-        content.setMaxWidth(Double.MAX_VALUE);
-        HBox.setHgrow(content, Priority.ALWAYS);
-
-        HBox titleRow = new HBox(6);
-        titleRow.setAlignment(Pos.CENTER_LEFT);
-        titleRow.setMaxWidth(Double.MAX_VALUE);
-        Label label = new Label(title);
-        label.getStyleClass().add("calendar-deadline-title");
-        label.setOpacity(isCompleted ? 0.7 : 1.0);
-        label.setMaxWidth(Double.MAX_VALUE);
-        label.setTextOverrun(OverrunStyle.ELLIPSIS);
-        HBox.setHgrow(label, Priority.ALWAYS);
-        titleRow.getChildren().addAll(label);
-
-        Label meta = new Label(allDay ? "All day • " + urgency : date.format(timeFormatter) + " • " + urgency);
-        meta.getStyleClass().add("calendar-deadline-meta");
-        meta.setMaxWidth(Double.MAX_VALUE);
-        meta.setTextOverrun(OverrunStyle.ELLIPSIS);
-        meta.setOpacity(isCompleted ? 0.7 : 1.0);
-        content.getChildren().addAll(titleRow, meta);
-
-
-        pill.getChildren().addAll(icon, colorBar, content);
-        pill.setMinWidth(0);
-        Tooltip.install(pill, new Tooltip(buildDeadlineTooltip(deadline, allDay, date)));
-        if (isCompleted) pill.setOpacity(0.5);
-        pill.setOnMouseClicked(e -> {
-            showDeadlinePopup(deadline, e.getScreenX(), e.getScreenY());
-            e.consume();
-        });
-        return pill;
+    private void bindAllDayDeadline(DeadlinePill pill, PlacedItem placed) {
+        pill.update(placed.item(), true, parseDateTime(placed.item()));
+    }
+
+    private void bindTimedDeadline(DeadlinePill pill, PlacedItem placed) {
+        LocalDateTime date = (LocalDateTime) placed.item().get("draw_start");
+        pill.update(placed.item(), false, date);
+        Pane layer = deadlineLayers[placed.dayIdx()];
+        double y = (date.getHour() * ROW_HEIGHT) + (date.getMinute() * (ROW_HEIGHT / 60.0));
+        pill.setLayoutY(y);
+        pill.setPrefHeight(DEADLINE_HEIGHT);
+        pill.prefWidthProperty().bind(layer.widthProperty().divide(placed.total()).subtract(4));
+        pill.layoutXProperty().bind(layer.widthProperty().divide(placed.total()).multiply(placed.pos()).add(2));
+    }
+
+    private final class DeadlinePill extends HBox {
+
+        private final Label label = new Label();
+        private final Label meta = new Label();
+        private final Tooltip tooltip = new Tooltip();
+        private Map<String, Object> deadline = Map.of();
+
+        private DeadlinePill() {
+            super(8);
+            setAlignment(Pos.CENTER_LEFT);
+            getStyleClass().add("calendar-deadline-pill");
+
+            FontIcon icon = new FontIcon("mdi2a-alarm");
+            icon.getStyleClass().add("calendar-deadline-icon");
+
+            Region colorBar = new Region();
+            colorBar.getStyleClass().add("session-deadline-bar");
+
+            VBox content = new VBox(2);
+            content.getStyleClass().add("calendar-deadline-content");
+            content.setMaxWidth(Double.MAX_VALUE);
+            HBox.setHgrow(content, Priority.ALWAYS);
+
+            HBox titleRow = new HBox(6);
+            titleRow.setAlignment(Pos.CENTER_LEFT);
+            titleRow.setMaxWidth(Double.MAX_VALUE);
+            label.getStyleClass().add("calendar-deadline-title");
+            label.setMaxWidth(Double.MAX_VALUE);
+            label.setTextOverrun(OverrunStyle.ELLIPSIS);
+            HBox.setHgrow(label, Priority.ALWAYS);
+            titleRow.getChildren().addAll(label);
+
+            meta.getStyleClass().add("calendar-deadline-meta");
+            meta.setMaxWidth(Double.MAX_VALUE);
+            meta.setTextOverrun(OverrunStyle.ELLIPSIS);
+            content.getChildren().addAll(titleRow, meta);
+
+            getChildren().addAll(icon, colorBar, content);
+            setMinWidth(0);
+            Tooltip.install(this, tooltip);
+            setOnMouseClicked(e -> {
+                showDeadlinePopup(deadline, e.getScreenX(), e.getScreenY());
+                e.consume();
+            });
+        }
+
+        private void update(Map<String, Object> deadline, boolean allDay, LocalDateTime date) {
+            this.deadline = deadline;
+            String title = String.valueOf(deadline.getOrDefault("title", deadline.getOrDefault("task_name", deadline.getOrDefault("taskName", "Deadline"))));
+            String urgency = String.valueOf(deadline.getOrDefault("urgency", "Medium"));
+            boolean isCompleted = isDeadlineCompleted(deadline);
+
+            label.setText(title);
+            label.setOpacity(isCompleted ? 0.7 : 1.0);
+            meta.setText(allDay ? "All day • " + urgency : date.format(timeFormatter) + " • " + urgency);
+            meta.setOpacity(isCompleted ? 0.7 : 1.0);
+            tooltip.setText(buildDeadlineTooltip(deadline, allDay, date));
+            setOpacity(isCompleted ? 0.5 : 1.0);
+        }
     }
 
     private String buildDeadlineTooltip(Map<String, Object> deadline, boolean allDay, LocalDateTime date) {
@@ -422,27 +502,20 @@ public class WeeklyTab extends VBox {
         return false;
     }
 
-    private void renderPlannerItem(Map<String, Object> item, int dayIdx, int pos, int total) {
-        if ("deadline".equals(item.get("item_type"))) {
-            renderTimedDeadline(item, dayIdx, pos, total);
-            return;
-        }
-        renderSession(item, dayIdx, pos, total);
-    }
-
-    private void renderTimedDeadline(Map<String, Object> deadline, int dayIdx, int pos, int total) {
-        LocalDateTime date = (LocalDateTime) deadline.get("draw_start");
-        if (date == null) return;
-        HBox pill = createDeadlinePill(deadline, false, date);
-        double y = (date.getHour() * ROW_HEIGHT) + (date.getMinute() * (ROW_HEIGHT / 60.0));
-        pill.setLayoutY(y);
-        pill.setPrefHeight(DEADLINE_HEIGHT);
-        pill.prefWidthProperty().bind(deadlineLayers[dayIdx].widthProperty().divide(total).subtract(4));
-        pill.layoutXProperty().bind(deadlineLayers[dayIdx].widthProperty().divide(total).multiply(pos).add(2));
-        deadlineLayers[dayIdx].getChildren().add(pill);
+    private CalendarSessionBlock createSessionBlock() {
+        CalendarSessionBlock block = new CalendarSessionBlock();
+        block.setOnMouseClicked(e -> {
+            if (block.getUserData() instanceof PlacedItem placed) {
+                LocalDateTime drawStart = (LocalDateTime) placed.item().get("draw_start");
+                showPopup(placed.item(), drawStart.toLocalDate(), e.getScreenX(), e.getScreenY(), drawStart.getHour(), true);
+                e.consume();
+            }
+        });
+        return block;
     }
 
-    private void renderSession(Map<String, Object> s, int dayIdx, int pos, int total) {
+    private void bindSessionBlock(CalendarSessionBlock block, PlacedItem placed) {
+        Map<String, Object> s = placed.item();
         String taskName = (String) s.get("task_name");
         String tagName = (String) s.get("tag_name");
         String title = (String) s.get("title");
@@ -455,99 +528,27 @@ public class WeeklyTab extends VBox {
         boolean isFragment = s.containsKey("is_fragment") && (boolean) s.get("is_fragment");
         String color = s.getOrDefault("tag_color", "#94a3b8").toString();
         double height = Math.max(MIN_BLOCK_HEIGHT, Duration.between(drawStart, drawEnd).toMinutes() * (ROW_HEIGHT / 60.0));
-        HBox block = createSessionBlock(isFragment ? "" : (title != null && !title.isEmpty() ? title : taskName), isFragment ? "" : tagName, color, fullStart, fullEnd, height, isFragment);
-        block.setOnMouseClicked(e -> { showPopup(s, drawStart.toLocalDate(), e.getScreenX(), e.getScreenY(), drawStart.getHour(), true); e.consume(); });
+        block.update(isFragment ? "" : (title != null && !title.isEmpty() ? title : taskName), isFragment ? "" : tagName, color, fullStart, fullEnd, height, isFragment);
+        block.setUserData(placed);
         double yStart = (drawStart.getHour() * ROW_HEIGHT) + (drawStart.getMinute() * (ROW_HEIGHT / 60.0));
 
+        Pane column = dayColumns[placed.dayIdx()];
         block.setLayoutY(yStart);
         block.setPrefHeight(height - 2);
-        block.prefWidthProperty().bind(dayColumns[dayIdx].widthProperty().divide(total).subtract(2));
-        block.layoutXProperty().bind(dayColumns[dayIdx].widthProperty().divide(total).multiply(pos).add(1));
-
-        dayColumns[dayIdx].getChildren().add(block);
-    }
-
-    private HBox createSessionBlock(String title, String tag, String color, LocalDateTime start, LocalDateTime end, double bh, boolean frag) {
-        HBox sessionBlock = new HBox(2);
-        sessionBlock.getStyleClass().add("calendar-session-block");
-        sessionBlock.setStyle("-session-bg-color: " + color + "50; -session-color: " + color + ";");
-
-        Region colorBar = new Region();
-        colorBar.getStyleClass().add("session-color-bar");
-
-        VBox contenido = new VBox();
-        contenido.getStyleClass().add("session-content-container");
-
-        if (!frag) {
-            Label titleLabel = new Label(title);
-            titleLabel.getStyleClass().add("session-title");
-
-            HBox timeContainer = new HBox();
-            timeContainer.getStyleClass().add("session-time-container");
-            FontIcon timeIcon = new FontIcon("mdi2c-clock-outline");
-            timeIcon.getStyleClass().add("session-time-icon");
-            Label timeLabel = new Label(start.format(timeFormatter) + " - " + end.format(timeFormatter));
-            timeLabel.getStyleClass().add("session-time-label");
-            timeContainer.getChildren().addAll(timeIcon, timeLabel);
-
-            Label tagLabel = new Label(tag);
-            tagLabel.getStyleClass().add("session-tag-badge");
-
-            // si es muy corto se quita el tag o la hora
-            tagLabel.setVisible(bh > 65);
-            tagLabel.setManaged(bh > 65);
-            timeContainer.setVisible(bh > 45);
-            timeContainer.setManaged(bh > 45);
-
-            contenido.getChildren().addAll(titleLabel, timeContainer, tagLabel);
-        }
-        sessionBlock.getChildren().addAll(colorBar, contenido);
-        Tooltip.install(sessionBlock, new Tooltip(title + "\n" + start.format(timeFormatter) + " - " + end.format(timeFormatter)));
-        return sessionBlock;
-    }
-
-    private VBox createDayHeader(LocalDate date, boolean isToday) {
-        Label lblName = new Label(date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.getDefault()).toUpperCase());
-        lblName.getStyleClass().add(isToday ? "calendar-day-name-today" : "calendar-day-name");
-        Label lblNum = new Label(String.valueOf(date.getDayOfMonth()));
-        lblNum.getStyleClass().add(isToday ? "calendar-day-num-today" : "calendar-day-num");
-        StackPane numStack = new StackPane();
-
-        Circle c = new Circle(14);
-
-        if (isToday) {
-            c.getStyleClass().add("calendar-today-circle");
-        } else {
-            c.getStyleClass().add("calendar-nottoday-circle");
-        }
-
-        numStack.getChildren().addAll(c, lblNum);
-        VBox v = new VBox(2, lblName, numStack);
-        v.setAlignment(Pos.TOP_CENTER);
-        v.setPadding(new Insets(10, 0, 10, 0));
-        return v;
+        block.prefWidthProperty().bind(column.widthProperty().divide(placed.total()).subtract(2));
+        block.layoutXProperty().bind(column.widthProperty().divide(placed.total()).multiply(placed.pos()).add(1));
     }
 
     private void drawTimeIndicator() {
+        if (timeIndicator.getParent() instanceof Pane parent) {
+            parent.getChildren().remove(timeIndicator);
+        }
         LocalDate today = LocalDate.now();
         int dayIdx = (int) ChronoUnit.DAYS.between(currentWeekStart, today);
         if (dayIdx >= 0 && dayIdx < 7) {
             double yPos = (LocalTime.now().getHour() * ROW_HEIGHT) + (LocalTime.now().getMinute() * (ROW_HEIGHT / 60.0));
-            HBox timeIndicator = new HBox();
-            timeIndicator.setAlignment(Pos.CENTER_LEFT);
-            timeIndicator.setMouseTransparent(true);
             timeIndicator.setLayoutY(yPos - 4);
-
-            Circle dot = new Circle(4);
-            dot.setStyle("-fx-fill: #e74c3c;");
-
-            Region line = new Region();
-            line.setStyle("-fx-background-color: #e74c3c; -fx-min-height: 2px; -fx-max-height: 2px;");
-            HBox.setHgrow(line, Priority.ALWAYS);
-
-            timeIndicator.getChildren().addAll(dot, line);
             timeIndicator.prefWidthProperty().bind(dayColumns[dayIdx].widthProperty());
-
             dayColumns[dayIdx].getChildren().add(timeIndicator);
         }
     }
@@ -683,33 +684,40 @@ public class WeeklyTab extends VBox {
                 return;
             }
 
-              try {
-                  if (s == null) {
-                      ApiClient.saveScheduledSession(
-                            cTags.getValue(),
-                            cTasks.getValue(),
-                            txtT.getText().trim(),
+            String tagName = cTags.getValue();
+            String taskName = cTasks.getValue();
+            String title = txtT.getText().trim();
+            btnS.setDisable(true);
+            ApiClient.runAsync(() -> {
+                if (s == null) {
+                    ApiClient.saveScheduledSession(
+                            tagName,
+                            taskName,
+                            title,
                             ApiClient.formatApiTimestamp(fS),
                             ApiClient.formatApiTimestamp(fE)
                     );
                 } else {
                     ApiClient.updateScheduledSession(
                             (int) s.get("id"),
-                            cTags.getValue(),
-                            cTasks.getValue(),
-                            txtT.getText().trim(),
+                            tagName,
+                            taskName,
+                            title,
                             ApiClient.formatApiTimestamp(fS),
                             ApiClient.formatApiTimestamp(fE)
                     );
-                  }
-              } catch (Exception error) {
-                  Logger.error(error);
-                  controller.showBackendOperationError("Scheduled session could not be saved", error);
-                  return;
-              }
-
-            popup.hide();
-            refreshPlannerAndMenu();
+                }
+            }).whenComplete((_, error) -> Platform.runLater(() -> {
+                btnS.setDisable(false);
+                if (error != null) {
+                    Exception cause = ApiClient.unwrap(error);
+                    Logger.error(cause);
+                    controller.showBackendOperationError("Scheduled session could not be saved", cause);
+                    return;
+                }
+                popup.hide();
+                refreshPlannerAndMenu();
+            }));
         });
 
         root.getChildren().addAll(
@@ -728,17 +736,20 @@ public class WeeklyTab extends VBox {
             btnD.getStyleClass().add("button-danger");
             btnD.setMaxWidth(Double.MAX_VALUE);
 
-              btnD.setOnAction(_ -> {
-                  try {
-                     ApiClient.deleteScheduledSession((int) s.get("id"));
-                  } catch (Exception error) {
-                      Logger.error(error);
-                      controller.showBackendOperationError("Scheduled session could not be deleted", error);
-                      return;
-                  }
-
-                popup.hide();
-                refreshPlannerAndMenu();
+            btnD.setOnAction(_ -> {
+                btnD.setDisable(true);
+                ApiClient.runAsync(() -> ApiClient.deleteScheduledSession((int) s.get("id")))
+                        .whenComplete((_, error) -> Platform.runLater(() -> {
+                            btnD.setDisable(false);
+                            if (error != null) {
+                                Exception cause = ApiClient.unwrap(error);
+                                Logger.error(cause);
+                                controller.showBackendOperationError("Scheduled session could not be deleted", cause);
+                                return;
+                            }
+                            popup.hide();
+                            refreshPlannerAndMenu();
+                        }));
             });
 
             root.getChildren().add(btnD);
@@ -825,40 +836,54 @@ public class WeeklyTab extends VBox {
             LocalDateTime newDue = duePicker.getValue().atTime(hour, minute);
             PlannerHelpers.TagSelectionData tagData = cachedTagData != null ? cachedTagData : new PlannerHelpers.TagSelectionData(Map.of(), Map.of());
 
-              try {
-                  if (isEdit) {
-                     ApiClient.updateDeadline(
+            String tagName = tagBox.getValue();
+            String tagColor = tagData.tagColors().getOrDefault(tagName, "");
+            String taskName = taskBox.getValue();
+            String title = titleField.getText().trim();
+            String description = descriptionArea.getText().trim();
+            String urgency = urgencyBox.getValue();
+            boolean allDay = allDayBox.isSelected();
+            boolean completed = isDeadlineCompleted(deadline);
+            saveButton.setDisable(true);
+            ApiClient.runAsync(() -> {
+                if (isEdit) {
+                    ApiClient.updateDeadline(
                             ((Number) deadline.get("id")).longValue(),
-                            tagBox.getValue(),
-                            tagData.tagColors().getOrDefault(tagBox.getValue(), ""),
-                            taskBox.getValue(),
-                            titleField.getText().trim(),
-                            descriptionArea.getText().trim(),
-                            urgencyBox.getValue(),
+                            tagName,
+                            tagColor,
+                            taskName,
+                            title,
+                            description,
+                            urgency,
                             ApiClient.formatApiTimestamp(newDue),
-                            allDayBox.isSelected(),
-                            isDeadlineCompleted(deadline)
+                            allDay,
+                            completed
                     );
                 } else {
                     ApiClient.saveDeadline(
-                            tagBox.getValue(),
-                            tagData.tagColors().getOrDefault(tagBox.getValue(), ""),
-                                taskBox.getValue(),
-                                titleField.getText().trim(),
-                                descriptionArea.getText().trim(),
-                                urgencyBox.getValue(),
-                                ApiClient.formatApiTimestamp(newDue),
-                                allDayBox.isSelected(),
-                                false
+                            tagName,
+                            tagColor,
+                            taskName,
+                            title,
+                            description,
+                            urgency,
+                            ApiClient.formatApiTimestamp(newDue),
+                            allDay,
+                            false
                     );
-                  }
-                  popup.hide();
-                  refreshPlannerAndMenu();
-              } catch (Exception error) {
-                  Logger.error(error);
-                  controller.showBackendOperationError("Deadline could not be saved", error);
-              }
-          });
+                }
+            }).whenComplete((_, error) -> Platform.runLater(() -> {
+                saveButton.setDisable(false);
+                if (error != null) {
+                    Exception cause = ApiClient.unwrap(error);
+                    Logger.error(cause);
+                    controller.showBackendOperationError("Deadline could not be saved", cause);
+                    return;
+                }
+                popup.hide();
+                refreshPlannerAndMenu();
+            }));
+        });
 
         root.getChildren().addAll(
                 titleLabel,
@@ -876,17 +901,20 @@ public class WeeklyTab extends VBox {
             Button deleteButton = new Button("Delete");
             deleteButton.getStyleClass().add("button-danger");
             deleteButton.setMaxWidth(Double.MAX_VALUE);
-              deleteButton.setOnAction(_ -> {
-                  try {
-                     ApiClient.deleteDeadline(((Number) deadline.get("id")).longValue());
-                  } catch (Exception error) {
-                      Logger.error(error);
-                      controller.showBackendOperationError("Deadline could not be deleted", error);
-                      return;
-                  }
-
-                popup.hide();
-                refreshPlannerAndMenu();
+            deleteButton.setOnAction(_ -> {
+                deleteButton.setDisable(true);
+                ApiClient.runAsync(() -> ApiClient.deleteDeadline(((Number) deadline.get("id")).longValue()))
+                        .whenComplete((_, error) -> Platform.runLater(() -> {
+                            deleteButton.setDisable(false);
+                            if (error != null) {
+                                Exception cause = ApiClient.unwrap(error);
+                                Logger.error(cause);
+                                controller.showBackendOperationError("Deadline could not be deleted", cause);
+                                return;
+                            }
+                            popup.hide();
+                            refreshPlannerAndMenu();
+                        }));
             });
             root.getChildren().add(deleteButton);
         }
@@ -901,40 +929,20 @@ public class WeeklyTab extends VBox {
     }
 
     private void configureTagSelectorsAsync(ComboBox<String> tagBox, ComboBox<String> taskBox, String initialTask, Button saveButton) {
-        tagBox.setDisable(true);
-        taskBox.setDisable(true);
-        saveButton.setDisable(true);
-        tagBox.setPromptText("Loading tags...");
-        taskBox.setPromptText("Loading tasks...");
+        PlannerHelpers.showTagSelectorsLoading(tagBox, taskBox, saveButton);
 
         PlannerHelpers.TagSelectionData cached = cachedTagData;
         if (cached != null && !cached.tagMap().isEmpty()) {
-            applyTagData(tagBox, taskBox, initialTask, saveButton, cached);
+            PlannerHelpers.applyTagData(tagBox, taskBox, initialTask, saveButton, cached);
             return;
         }
 
-        new Thread(() -> {
-            PlannerHelpers.TagSelectionData loaded = PlannerHelpers.loadTagData();
+        PlannerHelpers.loadTagDataAsync().thenAccept(loaded -> {
             if (!loaded.tagMap().isEmpty()) {
                 cachedTagData = loaded;
             }
-            Platform.runLater(() -> applyTagData(tagBox, taskBox, initialTask, saveButton, loaded));
-        }, "weekly-popup-tag-load").start();
-    }
-
-    private void applyTagData(ComboBox<String> tagBox, ComboBox<String> taskBox, String initialTask, Button saveButton, PlannerHelpers.TagSelectionData tagData) {
-        Map<String, List<String>> tagMap = tagData.tagMap();
-        tagBox.getItems().setAll(tagMap.keySet());
-        tagBox.setOnAction(_ -> {
-            taskBox.getItems().setAll(tagMap.getOrDefault(tagBox.getValue(), List.of()));
-            if (!taskBox.getItems().isEmpty()) taskBox.getSelectionModel().selectFirst();
+            Platform.runLater(() -> PlannerHelpers.applyTagData(tagBox, taskBox, initialTask, saveButton, loaded));
         });
-        PlannerHelpers.preselectTask(tagMap, tagBox, taskBox, initialTask);
-        tagBox.setDisable(tagMap.isEmpty());
-        taskBox.setDisable(tagMap.isEmpty());
-        saveButton.setDisable(tagMap.isEmpty());
-        tagBox.setPromptText(tagMap.isEmpty() ? "No tags available" : null);
-        taskBox.setPromptText(tagMap.isEmpty() ? "No tasks available" : null);
     }
 
     private LocalDateTime parseDateValue(Object value) {